@@ -0,0 +1,103 @@
+package Commerce360.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Per-request cost of authenticating an access token.
+//
+// legacyValidation repeats what the filter did before: three parses, each with a freshly built parser, plus a
+// user lookup. The lookup is an in-memory map here, so the real legacy path also paid a database round-trip on
+// top of this. filter runs the current JwtAuthFilter, which verifies once and builds the Authentication from
+// the token's claims.
+//
+// mvn -P jmh test-compile exec:exec -Djmh.args="JwtAuthBenchmark"
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthBenchmark {
+
+    private static final String EMAIL = "benchmark@example.com";
+
+    private SecretKey key;
+    private String token;
+    private Map<String, UserDetails> users;
+    private JwtUtil jwtUtil;
+    private JwtAuthFilter filter;
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new java.security.SecureRandom().nextBytes(secret);
+        JwtKeyRing keyRing = new JwtKeyRing("bench:" + Base64.getEncoder().encodeToString(secret), "", "", "",
+                300000);
+        key = keyRing.getActiveKey();
+        jwtUtil = new JwtUtil(keyRing);
+        token = jwtUtil.generateAccessToken(EMAIL, "CUSTOMER", UUID.randomUUID());
+        users = Map.of(EMAIL, User.withUsername(EMAIL).password("x").roles("CUSTOMER").build());
+
+        filter = new JwtAuthFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+    }
+
+    @Benchmark
+    public Authentication legacyValidation() {
+        String email = legacyParse().getSubject();
+        UserDetails user = users.get(email);
+        // validateToken: extractUsername and extractExpiration, one parse each
+        boolean valid = email.equals(legacyParse().getSubject()) && !legacyParse().getExpiration().before(new Date());
+        return valid ? new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()) : null;
+    }
+
+    @Benchmark
+    public Authentication filter() throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Authentication parseOnce() {
+        Claims claims = jwtUtil.parseClaims(token);
+        return new UsernamePasswordAuthenticationToken(claims.getSubject(), null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + claims.get("role", String.class))));
+    }
+
+    private Claims legacyParse() {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+}
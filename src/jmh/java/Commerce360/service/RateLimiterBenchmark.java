@@ -0,0 +1,93 @@
+package Commerce360.service;
+
+import Commerce360.config.RateLimiterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Throughput of RateLimiterService.tryAcquire under contention. hot* methods share one bucket, so every thread
+// competes on the same state word; cold* methods spread calls over many buckets, as independent clients do.
+// Buckets start with the largest capacity allowed. The hot bucket still drains within the first iteration, after
+// which it mostly measures rejections racing the refill CAS, which is what one abusive client produces.
+//
+// mvn -P jmh test-compile exec:exec -Djmh.args="RateLimiterBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final int COLD_KEYS = 100_000;
+    private static final long LEAK_INTERVAL_MILLIS = 1;
+
+    private RateLimiterService limiter;
+    private String[] coldKeys;
+
+    @Setup
+    public void setUp() {
+        limiter = new RateLimiterService(new SimpleMeterRegistry(), new RateLimiterConfig());
+        coldKeys = new String[COLD_KEYS];
+        for (int i = 0; i < COLD_KEYS; i++) {
+            coldKeys[i] = "client-" + i;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean hot1() {
+        return hot();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean hot8() {
+        return hot();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean hot64() {
+        return hot();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean cold1() {
+        return cold();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean cold8() {
+        return cold();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean cold64() {
+        return cold();
+    }
+
+    private boolean hot() {
+        return limiter.tryAcquire("hot-client", RateLimiterService.MAX_CAPACITY, LEAK_INTERVAL_MILLIS);
+    }
+
+    private boolean cold() {
+        String key = coldKeys[ThreadLocalRandom.current().nextInt(COLD_KEYS)];
+        return limiter.tryAcquire(key, RateLimiterService.MAX_CAPACITY, LEAK_INTERVAL_MILLIS);
+    }
+}
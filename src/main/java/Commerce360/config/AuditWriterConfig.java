@@ -0,0 +1,89 @@
+package Commerce360.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Configuration
+@ConfigurationProperties(prefix = "audit.writer")
+@Validated
+public class AuditWriterConfig {
+
+    // What submit does when the queue is full
+    public enum Overflow {
+        // Wait up to blockTimeoutMillis for space, then drop
+        BLOCK,
+        DROP,
+        // Append to spillPath; the writer replays the file once the queue has drained
+        SPILL
+    }
+
+    @Min(1)
+    private int queueCapacity = 10000;
+
+    @Min(1)
+    private int batchSize = 200;
+
+    // Longest an event waits in the queue when traffic is too low to fill a batch
+    @Min(10)
+    private long flushIntervalMillis = 500;
+
+    @NotNull
+    private Overflow overflow = Overflow.SPILL;
+
+    @Min(1)
+    private long blockTimeoutMillis = 1000;
+
+    private String spillPath = "audit-spill.jsonl";
+
+    // Getters and setters
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getFlushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+
+    public void setFlushIntervalMillis(long flushIntervalMillis) {
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    public Overflow getOverflow() {
+        return overflow;
+    }
+
+    public void setOverflow(Overflow overflow) {
+        this.overflow = overflow;
+    }
+
+    public long getBlockTimeoutMillis() {
+        return blockTimeoutMillis;
+    }
+
+    public void setBlockTimeoutMillis(long blockTimeoutMillis) {
+        this.blockTimeoutMillis = blockTimeoutMillis;
+    }
+
+    public String getSpillPath() {
+        return spillPath;
+    }
+
+    public void setSpillPath(String spillPath) {
+        this.spillPath = spillPath;
+    }
+}
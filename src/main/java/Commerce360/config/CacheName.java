@@ -0,0 +1,109 @@
+package Commerce360.config;
+
+import Commerce360.dto.CachedPage;
+import Commerce360.dto.InventoryDTO;
+import Commerce360.dto.ProductDTO;
+import Commerce360.dto.StoreDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Typed cache descriptor. Key and value types are checked by the compiler at every get and evict call, and
+// keys are rendered by a function instead of a SpEL expression. A scope groups keys that are evicted
+// together, e.g. every cached inventory page of one store.
+public final class CacheName<K, V> {
+
+    public enum StoreListing {
+        ALL
+    }
+
+    public enum Report {
+        STOCK_SUMMARY, SALES_SUMMARY, PURCHASE_SUMMARY, PROFIT_LOSS
+    }
+
+    public record StoreInventoryKey(UUID storeId, int page, int size, String sort) {
+    }
+
+    public record ReportKey(Report report, UUID storeId, LocalDateTime start, LocalDateTime end) {
+    }
+
+    public static final CacheName<UUID, StoreDTO> STORE = new CacheName<>("store",
+            new TypeReference<StoreDTO>() {
+            }, Duration.ofMinutes(10), 10000, UUID::toString, null);
+
+    public static final CacheName<StoreListing, List<StoreDTO>> ALL_STORES = new CacheName<>("stores",
+            new TypeReference<List<StoreDTO>>() {
+            }, Duration.ofMinutes(5), 10, StoreListing::name, null);
+
+    public static final CacheName<UUID, List<StoreDTO>> STORES_BY_OWNER = new CacheName<>("stores_by_owner",
+            new TypeReference<List<StoreDTO>>() {
+            }, Duration.ofMinutes(10), 10000, UUID::toString, null);
+
+    public static final CacheName<StoreInventoryKey, CachedPage<InventoryDTO>> STORE_INVENTORY = new CacheName<>(
+            "inventory", new TypeReference<CachedPage<InventoryDTO>>() {
+            }, Duration.ofMinutes(2), 5000,
+            key -> key.page() + ":" + key.size() + ":" + key.sort(), StoreInventoryKey::storeId);
+
+    public static final CacheName<ReportKey, Map<String, Object>> REPORTS = new CacheName<>("reports",
+            new TypeReference<Map<String, Object>>() {
+            }, Duration.ofMinutes(5), 5000,
+            key -> key.report() + ":" + key.start() + ":" + key.end(), ReportKey::storeId);
+
+    public static final CacheName<UUID, ProductDTO> PRODUCT = new CacheName<>("product",
+            new TypeReference<ProductDTO>() {
+            }, Duration.ofMinutes(5), 20000, UUID::toString, null);
+
+    private static final String SCOPE_SEPARATOR = "|";
+
+    private final String name;
+    private final TypeReference<V> valueType;
+    private final Duration defaultTtl;
+    private final int defaultMaxEntries;
+    private final Function<K, String> keyFormat;
+    private final Function<K, ?> scope;
+
+    private CacheName(String name, TypeReference<V> valueType, Duration defaultTtl, int defaultMaxEntries,
+            Function<K, String> keyFormat, Function<K, ?> scope) {
+        this.name = name;
+        this.valueType = valueType;
+        this.defaultTtl = defaultTtl;
+        this.defaultMaxEntries = defaultMaxEntries;
+        this.keyFormat = keyFormat;
+        this.scope = scope;
+    }
+
+    public String render(K key) {
+        return scope != null
+                ? scopePrefix(scope.apply(key)) + keyFormat.apply(key)
+                : keyFormat.apply(key);
+    }
+
+    // Every key rendered for this scope starts with the returned prefix
+    public String scopePrefix(Object scopeValue) {
+        if (scope == null) {
+            throw new IllegalStateException("Cache " + name + " has no scope");
+        }
+        return scopeValue + SCOPE_SEPARATOR;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TypeReference<V> getValueType() {
+        return valueType;
+    }
+
+    public Duration getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    public int getDefaultMaxEntries() {
+        return defaultMaxEntries;
+    }
+}
@@ -0,0 +1,79 @@
+package Commerce360.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache")
+public class CacheSettings {
+
+    // How long a node serves an entry from memory before asking the shared tier again. This bounds how long
+    // another node's eviction can go unnoticed if the invalidation message is lost.
+    private Duration nearTtl = Duration.ofSeconds(30);
+
+    // How long to stay local-only after the shared tier fails
+    private long remoteRetryMillis = 5000;
+
+    // Per-cache overrides keyed by cache name, e.g. cache.specs.store.ttl=PT5M. Without the shared tier each
+    // replica caches on its own, so the TTL is how long another replica may serve an entry after it changed.
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    public static class Spec {
+        private Duration ttl;
+        private Duration nearTtl;
+        private Integer maxEntries;
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getNearTtl() {
+            return nearTtl;
+        }
+
+        public void setNearTtl(Duration nearTtl) {
+            this.nearTtl = nearTtl;
+        }
+
+        public Integer getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(Integer maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
+    // Getters and setters
+    public Duration getNearTtl() {
+        return nearTtl;
+    }
+
+    public void setNearTtl(Duration nearTtl) {
+        this.nearTtl = nearTtl;
+    }
+
+    public long getRemoteRetryMillis() {
+        return remoteRetryMillis;
+    }
+
+    public void setRemoteRetryMillis(long remoteRetryMillis) {
+        this.remoteRetryMillis = remoteRetryMillis;
+    }
+
+    public Map<String, Spec> getSpecs() {
+        return specs;
+    }
+
+    public void setSpecs(Map<String, Spec> specs) {
+        this.specs = specs;
+    }
+}
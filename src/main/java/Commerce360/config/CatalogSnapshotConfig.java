@@ -0,0 +1,51 @@
+package Commerce360.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "catalog.snapshot")
+@Validated
+public class CatalogSnapshotConfig {
+
+    private boolean enabled = true;
+
+    // Oldest snapshot browsing may be served from. Writes on this node are visible immediately; writes on
+    // other nodes show up once their snapshot ages past this and is rebuilt.
+    @NotNull
+    private Duration maxStaleness = Duration.ofMinutes(5);
+
+    // Above this many products the catalog is not held in memory and browsing stays on the database
+    @Min(1)
+    private int maxProducts = 100000;
+
+    // Getters and setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    public void setMaxStaleness(Duration maxStaleness) {
+        this.maxStaleness = maxStaleness;
+    }
+
+    public int getMaxProducts() {
+        return maxProducts;
+    }
+
+    public void setMaxProducts(int maxProducts) {
+        this.maxProducts = maxProducts;
+    }
+}
@@ -0,0 +1,33 @@
+package Commerce360.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Rate-limit policy for a controller or handler method; the method-level annotation wins.
+// Unset capacity/leakRate (-1) fall back to rate.limiter.capacity and rate.limiter.leak-rate.
+// A rate.limiter.policies entry whose path covers the handler overrides the annotation.
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+
+    enum Key {
+        // Client address
+        IP,
+        // Authenticated user id; anonymous requests fall back to the client address
+        USER,
+        // X-API-Key header listed in rate.limiter.api-keys; missing or unknown keys fall back to the client address
+        API_KEY
+    }
+
+    String name() default "";
+
+    Key key() default Key.USER;
+
+    int capacity() default -1;
+
+    int leakRate() default -1;
+
+    boolean exempt() default false;
+}
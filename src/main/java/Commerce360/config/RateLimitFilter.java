@@ -0,0 +1,162 @@
+package Commerce360.config;
+
+import Commerce360.entity.UserRole;
+import Commerce360.security.JwtUtil;
+import Commerce360.service.DistributedRateLimiterService;
+import Commerce360.service.RateLimitDecision;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// First filter in the chain: rejected requests are answered before Spring Security, the JWT filter or the
+// DispatcherServlet do any work. The policy comes from RateLimitPolicyRegistry's precompiled route trie.
+// CORS preflights are not counted; HEAD runs the GET handler, so it is counted as GET.
+// For user-keyed policies the bearer token is verified here and the claims are handed on to JwtAuthFilter
+// through a request attribute, so an allowed request still parses its token only once.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final DistributedRateLimiterService rateLimiterService;
+    private final RateLimitPolicyRegistry policyRegistry;
+    private final JwtUtil jwtUtil;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary shedBytes;
+
+    public RateLimitFilter(DistributedRateLimiterService rateLimiterService, RateLimitPolicyRegistry policyRegistry,
+            JwtUtil jwtUtil, MeterRegistry meterRegistry) {
+        this.rateLimiterService = rateLimiterService;
+        this.policyRegistry = policyRegistry;
+        this.jwtUtil = jwtUtil;
+        this.meterRegistry = meterRegistry;
+        this.shedBytes = DistributionSummary.builder("rate_limiter.requests.shed.bytes")
+                .description("Declared request body size of rejected requests")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (CorsUtils.isPreFlightRequest(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String method = HttpMethod.HEAD.matches(request.getMethod()) ? HttpMethod.GET.name() : request.getMethod();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimitPolicy policy = policyRegistry.policyFor(method, path);
+        if (policy == null && path.startsWith("/api/")) {
+            // Unmapped API paths (typos, probes) still count against the caller
+            policy = policyRegistry.getDefaultPolicy();
+        }
+        if (policy == null || policy.exempt()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Claims claims = policy.key() == RateLimit.Key.USER ? verifiedClaims(request) : null;
+        String clientId = policy.name() + ":" + clientKey(policy, request, claims);
+        int capacity = policy.capacityFor(role(claims));
+
+        RateLimitDecision decision = rateLimiterService.acquire(clientId, capacity, policy.leakIntervalMillis());
+        response.setIntHeader("X-RateLimit-Limit", decision.limit());
+        response.setHeader("X-RateLimit-Remaining", Long.toString(decision.remaining()));
+        if (decision.allowed()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, (decision.retryAfterMillis() + 999) / 1000);
+        response.setHeader("X-RateLimit-Reset", Long.toString(retryAfterSeconds));
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        recordShed(policy, request);
+        logger.debug("Rate limit exceeded for client {} on endpoint {}", clientId, path);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Rate limit exceeded. Please try again later.");
+    }
+
+    // Invalid or expired tokens are left for JwtAuthFilter to report; the request is keyed by IP meanwhile
+    private Claims verifiedClaims(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            Claims claims = jwtUtil.parseClaims(authHeader.substring(7));
+            if (!"access".equals(claims.get("type", String.class))) {
+                return null;
+            }
+            request.setAttribute(JwtUtil.CLAIMS_ATTRIBUTE, claims);
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String clientKey(RateLimitPolicy policy, HttpServletRequest request, Claims claims) {
+        switch (policy.key()) {
+            case USER:
+                String userId = claims != null ? claims.get("uid", String.class) : null;
+                if (userId != null) {
+                    return "user:" + userId;
+                }
+                break;
+            case API_KEY:
+                // Keyed by the configured client name; the raw header never names a bucket
+                String apiClient = policyRegistry.apiClient(request.getHeader("X-API-Key"));
+                if (apiClient != null) {
+                    return "key:" + apiClient;
+                }
+                break;
+            default:
+                break;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static UserRole role(Claims claims) {
+        String role = claims != null ? claims.get("role", String.class) : null;
+        if (role == null) {
+            return null;
+        }
+        try {
+            return UserRole.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void recordShed(RateLimitPolicy policy, HttpServletRequest request) {
+        // Micrometer caches the meter per name and tag, so this is a map lookup after the first rejection
+        Counter.builder("rate_limiter.requests.shed")
+                .description("Requests rejected before authentication or handler dispatch")
+                .tag("policy", policy.name())
+                .register(meterRegistry)
+                .increment();
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > 0) {
+            shedBytes.record(contentLength);
+        }
+    }
+}
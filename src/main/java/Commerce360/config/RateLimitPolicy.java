@@ -0,0 +1,28 @@
+package Commerce360.config;
+
+import Commerce360.entity.UserRole;
+import Commerce360.service.RateLimiterService;
+
+import java.util.Map;
+
+// Resolved limits for one handler. Buckets are keyed by policy name plus the client key, so a client has an
+// independent bucket per policy. roleCapacities raises or lowers the capacity for authenticated roles.
+public record RateLimitPolicy(String name, RateLimit.Key key, int capacity, long leakIntervalMillis,
+        boolean exempt, Map<UserRole, Integer> roleCapacities) {
+
+    // Also covers @RateLimit capacities, which configuration binding never sees
+    public RateLimitPolicy {
+        if (capacity < 1 || capacity > RateLimiterService.MAX_CAPACITY
+                || roleCapacities.values().stream().anyMatch(c -> c < 1 || c > RateLimiterService.MAX_CAPACITY)) {
+            throw new IllegalArgumentException("Rate limit policy " + name + " needs capacities between 1 and "
+                    + RateLimiterService.MAX_CAPACITY);
+        }
+    }
+
+    public int capacityFor(UserRole role) {
+        if (role == null) {
+            return capacity;
+        }
+        return roleCapacities.getOrDefault(role, capacity);
+    }
+}
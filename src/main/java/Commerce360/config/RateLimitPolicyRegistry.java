@@ -0,0 +1,205 @@
+package Commerce360.config;
+
+import Commerce360.entity.UserRole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Resolves a RateLimitPolicy for every handler mapping once, at startup: rate.limiter.policies entries
+// matched against the mapping patterns first, then annotations. The result is compiled into a trie of path
+// segments so RateLimitFilter can pick a policy before the DispatcherServlet resolves the handler, without
+// evaluating any path pattern per request.
+@Component
+public class RateLimitPolicyRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitPolicyRegistry.class);
+    private static final String ANY_METHOD = "*";
+    private static final int MAX_API_KEY_LENGTH = 256;
+
+    private final RateLimiterConfig config;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final RateLimitPolicy defaultPolicy;
+    private final Map<String, String> apiClientsByKeyHash = new HashMap<>();
+
+    // One node per path segment. {variables} and * share the wildcard child; ** ends the match.
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, RateLimitPolicy> byMethod = new HashMap<>();
+        private Node wildcard;
+        private Node catchAll;
+
+        RateLimitPolicy policyFor(String method) {
+            RateLimitPolicy policy = byMethod.get(method);
+            return policy != null ? policy : byMethod.get(ANY_METHOD);
+        }
+    }
+
+    private volatile Node root = new Node();
+
+    public RateLimitPolicyRegistry(RateLimiterConfig config) {
+        this.config = config;
+        this.defaultPolicy = new RateLimitPolicy("default", RateLimit.Key.USER, config.getCapacity(),
+                leakInterval(config.getLeakRate()), false, Map.of());
+        config.getApiKeys().forEach((client, hash) -> apiClientsByKeyHash.put(hash.toLowerCase(Locale.ROOT), client));
+    }
+
+    public RateLimitPolicy getDefaultPolicy() {
+        return defaultPolicy;
+    }
+
+    // Client name for a configured API key, or null for a missing or unknown one
+    public String apiClient(String apiKey) {
+        if (apiKey == null || apiKey.isBlank() || apiKey.length() > MAX_API_KEY_LENGTH
+                || apiClientsByKeyHash.isEmpty()) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+            return apiClientsByKeyHash.get(HexFormat.of().formatHex(digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // Null when no handler mapping matches the path; literal segments win over variables, as in Spring MVC
+    public RateLimitPolicy policyFor(String method, String path) {
+        return find(root, path, 0, method);
+    }
+
+    // RateLimitFilter is created while the servlet context starts, before MVC infrastructure is ready, so
+    // the handler mapping is looked up here rather than injected
+    @EventListener
+    public void compile(ContextRefreshedEvent event) {
+        RequestMappingHandlerMapping handlerMapping = event.getApplicationContext()
+                .getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        Node compiled = new Node();
+        int routes = 0;
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+            RequestMappingInfo info = entry.getKey();
+            RateLimitPolicy policy = resolve(info.getPatternValues(), entry.getValue());
+            Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+            for (String pattern : info.getPatternValues()) {
+                Node node = insert(compiled, pattern);
+                if (methods.isEmpty()) {
+                    node.byMethod.put(ANY_METHOD, policy);
+                } else {
+                    methods.forEach(method -> node.byMethod.put(method.name(), policy));
+                }
+                routes++;
+            }
+        }
+        root = compiled;
+        logger.info("Compiled rate limit policies for {} routes", routes);
+    }
+
+    private static Node insert(Node root, String pattern) {
+        Node node = root;
+        for (String segment : pattern.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.equals("**")) {
+                if (node.catchAll == null) {
+                    node.catchAll = new Node();
+                }
+                return node.catchAll;
+            }
+            if (segment.equals("*") || (segment.startsWith("{") && segment.endsWith("}"))) {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node();
+                }
+                node = node.wildcard;
+            } else {
+                node = node.literals.computeIfAbsent(segment, k -> new Node());
+            }
+        }
+        return node;
+    }
+
+    // Walks the path without splitting it into an array; backtracks to the wildcard child on a dead end
+    private static RateLimitPolicy find(Node node, String path, int from, String method) {
+        while (from < path.length() && path.charAt(from) == '/') {
+            from++;
+        }
+        if (from >= path.length()) {
+            return node.policyFor(method);
+        }
+
+        int end = path.indexOf('/', from);
+        if (end < 0) {
+            end = path.length();
+        }
+
+        Node literal = node.literals.get(path.substring(from, end));
+        if (literal != null) {
+            RateLimitPolicy policy = find(literal, path, end, method);
+            if (policy != null) {
+                return policy;
+            }
+        }
+        if (node.wildcard != null) {
+            RateLimitPolicy policy = find(node.wildcard, path, end, method);
+            if (policy != null) {
+                return policy;
+            }
+        }
+        return node.catchAll != null ? node.catchAll.policyFor(method) : null;
+    }
+
+    // Also used by callers that precompile their own lookup structures
+    public RateLimitPolicy resolve(Set<String> patterns, HandlerMethod handler) {
+        for (Map.Entry<String, RateLimiterConfig.Policy> entry : config.getPolicies().entrySet()) {
+            String path = entry.getValue().getPath();
+            if (path != null && patterns.stream().anyMatch(pattern -> pathMatcher.match(path, pattern))) {
+                return fromConfig(entry.getKey(), entry.getValue());
+            }
+        }
+
+        RateLimit annotation = AnnotatedElementUtils.findMergedAnnotation(handler.getMethod(), RateLimit.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(handler.getBeanType(), RateLimit.class);
+        }
+        if (annotation == null) {
+            return defaultPolicy;
+        }
+
+        String name = annotation.name().isEmpty()
+                ? handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName()
+                : annotation.name();
+        return new RateLimitPolicy(name, annotation.key(),
+                annotation.capacity() > 0 ? annotation.capacity() : config.getCapacity(),
+                leakInterval(annotation.leakRate() > 0 ? annotation.leakRate() : config.getLeakRate()),
+                annotation.exempt(), Map.of());
+    }
+
+    private RateLimitPolicy fromConfig(String name, RateLimiterConfig.Policy policy) {
+        Map<UserRole, Integer> roleCapacities = new EnumMap<>(UserRole.class);
+        policy.getRoleCapacities().forEach((role, capacity) -> roleCapacities.put(UserRole.valueOf(role), capacity));
+        return new RateLimitPolicy(name, RateLimit.Key.valueOf(policy.getKey()),
+                policy.getCapacity() != null ? policy.getCapacity() : config.getCapacity(),
+                leakInterval(policy.getLeakRate() != null ? policy.getLeakRate() : config.getLeakRate()),
+                policy.isExempt(), Map.copyOf(roleCapacities));
+    }
+
+    private static long leakInterval(int leakRate) {
+        return Math.max(1, TimeUnit.SECONDS.toMillis(1) / leakRate);
+    }
+}
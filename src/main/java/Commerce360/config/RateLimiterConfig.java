@@ -1,17 +1,25 @@
 package Commerce360.config;
 
+import Commerce360.service.RateLimiterService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Configuration
 @EnableConfigurationProperties
 @ConfigurationProperties(prefix = "rate.limiter")
 @Validated
 public class RateLimiterConfig {
+    // Bucket state packs the token count into a few bits; see RateLimiterService
     @Min(1)
+    @Max(RateLimiterService.MAX_CAPACITY)
     private int capacity = 10;
 
     @Min(1)
@@ -20,6 +28,86 @@ public class RateLimiterConfig {
     @Min(1000)
     private long cleanupInterval = 300000;
 
+    // Distributed mode: tokens taken from the shared bucket per round-trip, and how long a node may
+    // spend them (or remember a rejection) before asking again
+    @Min(1)
+    private int distributedBatchSize = 5;
+
+    @Min(1)
+    private long distributedLeaseMillis = 20;
+
+    // How long to stay on the local limiter after the shared store fails
+    @Min(100)
+    private long distributedRetryMillis = 5000;
+
+    // Named route policies, e.g. rate.limiter.policies.catalog.path=/api/catalog/**
+    private Map<String, @Valid Policy> policies = new LinkedHashMap<>();
+
+    // Known API keys for API_KEY policies: client name to the lowercase hex SHA-256 of its key. Requests with
+    // any other key are limited by client address, so made-up keys cannot each get a fresh bucket.
+    private Map<String, String> apiKeys = new LinkedHashMap<>();
+
+    public static class Policy {
+        private String path;
+        private String key = "USER";
+        @Min(1)
+        @Max(RateLimiterService.MAX_CAPACITY)
+        private Integer capacity;
+        @Min(1)
+        private Integer leakRate;
+        private boolean exempt;
+        private Map<String, @Min(1) @Max(RateLimiterService.MAX_CAPACITY) Integer> roleCapacities =
+                new LinkedHashMap<>();
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public void setKey(String key) {
+            this.key = key;
+        }
+
+        public Integer getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(Integer capacity) {
+            this.capacity = capacity;
+        }
+
+        public Integer getLeakRate() {
+            return leakRate;
+        }
+
+        public void setLeakRate(Integer leakRate) {
+            this.leakRate = leakRate;
+        }
+
+        public boolean isExempt() {
+            return exempt;
+        }
+
+        public void setExempt(boolean exempt) {
+            this.exempt = exempt;
+        }
+
+        public Map<String, Integer> getRoleCapacities() {
+            return roleCapacities;
+        }
+
+        public void setRoleCapacities(Map<String, Integer> roleCapacities) {
+            this.roleCapacities = roleCapacities;
+        }
+    }
+
     // Getters and setters
     public int getCapacity() {
         return capacity;
@@ -44,4 +132,44 @@ public class RateLimiterConfig {
     public void setCleanupInterval(long cleanupInterval) {
         this.cleanupInterval = cleanupInterval;
     }
-}
\ No newline at end of file
+
+    public int getDistributedBatchSize() {
+        return distributedBatchSize;
+    }
+
+    public void setDistributedBatchSize(int distributedBatchSize) {
+        this.distributedBatchSize = distributedBatchSize;
+    }
+
+    public long getDistributedLeaseMillis() {
+        return distributedLeaseMillis;
+    }
+
+    public void setDistributedLeaseMillis(long distributedLeaseMillis) {
+        this.distributedLeaseMillis = distributedLeaseMillis;
+    }
+
+    public long getDistributedRetryMillis() {
+        return distributedRetryMillis;
+    }
+
+    public void setDistributedRetryMillis(long distributedRetryMillis) {
+        this.distributedRetryMillis = distributedRetryMillis;
+    }
+
+    public Map<String, Policy> getPolicies() {
+        return policies;
+    }
+
+    public void setPolicies(Map<String, Policy> policies) {
+        this.policies = policies;
+    }
+
+    public Map<String, String> getApiKeys() {
+        return apiKeys;
+    }
+
+    public void setApiKeys(Map<String, String> apiKeys) {
+        this.apiKeys = apiKeys;
+    }
+}
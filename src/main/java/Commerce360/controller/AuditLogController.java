@@ -9,6 +9,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import Commerce360.dto.AuditLogDTO;
+import Commerce360.dto.CursorPage;
 import Commerce360.service.AuditLogService;
 
 import java.time.LocalDateTime;
@@ -33,42 +34,88 @@ public class AuditLogController {
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
         summary = "Get All Audit Logs",
-        description = "Retrieve all audit logs with pagination (ADMIN only)"
+        description = "Retrieve all audit logs with pagination (ADMIN only). Deprecated: use /scroll",
+        deprecated = true
     )
+    @Deprecated
     public ResponseEntity<Page<AuditLogDTO>> getAllAuditLogs(Pageable pageable) {
         return ResponseEntity.ok(auditLogService.getAllAuditLogs(pageable));
     }
 
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Scroll All Audit Logs",
+        description = "All audit logs newest first using cursor pagination; pass nextCursor back as cursor to continue (ADMIN only)"
+    )
+    public ResponseEntity<CursorPage<AuditLogDTO>> scrollAllAuditLogs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(auditLogService.scrollAllAuditLogs(cursor, size));
+    }
+
     @GetMapping("/store/{storeId}")
     @PreAuthorize("hasRole('STORE_MANAGER')")
     @Operation(
         summary = "Get Store Audit Logs",
-        description = "Get all audit logs for a specific store (STORE_MANAGER only)"
+        description = "Get all audit logs for a specific store (STORE_MANAGER only). Deprecated: use /store/{storeId}/scroll",
+        deprecated = true
     )
+    @Deprecated
     public ResponseEntity<Page<AuditLogDTO>> getStoreAuditLogs(
             @PathVariable UUID storeId,
             Pageable pageable) {
         return ResponseEntity.ok(auditLogService.getStoreAuditLogs(storeId, pageable));
     }
 
+    @GetMapping("/store/{storeId}/scroll")
+    @PreAuthorize("hasRole('STORE_MANAGER')")
+    @Operation(
+        summary = "Scroll Store Audit Logs",
+        description = "Audit logs for a specific store newest first using cursor pagination (STORE_MANAGER only)"
+    )
+    public ResponseEntity<CursorPage<AuditLogDTO>> scrollStoreAuditLogs(
+            @PathVariable UUID storeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(auditLogService.scrollStoreAuditLogs(storeId, cursor, size));
+    }
+
     @GetMapping("/product/{productId}")
     @PreAuthorize("hasRole('STORE_MANAGER')")
     @Operation(
         summary = "Get Product Audit Logs",
-        description = "Get all audit logs for specific product activity (STORE_MANAGER only)"
+        description = "Get all audit logs for specific product activity (STORE_MANAGER only). Deprecated: use /product/{productId}/scroll",
+        deprecated = true
     )
+    @Deprecated
     public ResponseEntity<Page<AuditLogDTO>> getProductAuditLogs(
             @PathVariable UUID productId,
             Pageable pageable) {
         return ResponseEntity.ok(auditLogService.getProductAuditLogs(productId, pageable));
     }
 
+    @GetMapping("/product/{productId}/scroll")
+    @PreAuthorize("hasRole('STORE_MANAGER')")
+    @Operation(
+        summary = "Scroll Product Audit Logs",
+        description = "Audit logs for specific product activity newest first using cursor pagination (STORE_MANAGER only)"
+    )
+    public ResponseEntity<CursorPage<AuditLogDTO>> scrollProductAuditLogs(
+            @PathVariable UUID productId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(auditLogService.scrollProductAuditLogs(productId, cursor, size));
+    }
+
     @GetMapping("/date-range")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
         summary = "Get Audit Logs by Date Range",
-        description = "Filter audit logs by date range for compliance reporting (ADMIN only)"
+        description = "Filter audit logs by date range for compliance reporting (ADMIN only). Deprecated: use /date-range/scroll",
+        deprecated = true
     )
+    @Deprecated
     public ResponseEntity<Page<AuditLogDTO>> getAuditLogsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
@@ -76,18 +123,44 @@ public class AuditLogController {
         return ResponseEntity.ok(auditLogService.getAuditLogsByDateRange(startDate, endDate, pageable));
     }
 
+    @GetMapping("/date-range/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Scroll Audit Logs by Date Range",
+        description = "Audit logs in a date range newest first using cursor pagination (ADMIN only)"
+    )
+    public ResponseEntity<CursorPage<AuditLogDTO>> scrollAuditLogsByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(auditLogService.scrollAuditLogsByDateRange(startDate, endDate, cursor, size));
+    }
+
     @GetMapping("/user/{userId}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
         summary = "Get User Activity Logs",
-        description = "Get all activity logs for a specific user (ADMIN only)"
+        description = "Get all activity logs for a specific user (ADMIN only). Deprecated: use /user/{userId}/scroll",
+        deprecated = true
     )
+    @Deprecated
     public ResponseEntity<Page<AuditLogDTO>> getAuditLogsByUser(
             @PathVariable UUID userId,
             Pageable pageable) {
         return ResponseEntity.ok(auditLogService.getAuditLogsByUser(userId, pageable));
     }
-}
-
-
 
+    @GetMapping("/user/{userId}/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Scroll User Activity Logs",
+        description = "Activity logs for a specific user newest first using cursor pagination (ADMIN only)"
+    )
+    public ResponseEntity<CursorPage<AuditLogDTO>> scrollAuditLogsByUser(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(auditLogService.scrollAuditLogsByUser(userId, cursor, size));
+    }
+}
@@ -7,13 +7,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.http.HttpStatus;
 
 import lombok.RequiredArgsConstructor;
 
-import Commerce360.security.JwtUtil;
+import Commerce360.security.AuthenticatedUser;
+import Commerce360.security.PrincipalCache;
+import Commerce360.security.RefreshTokenService;
 import Commerce360.security.LoginRequest;
 import Commerce360.security.RefreshRequest;
 import Commerce360.security.AuthResponse;
@@ -34,8 +34,8 @@ public class AuthController {
 
     // AUTHENTICATION MANAGER
     private final AuthenticationManager authenticationManager;
-    private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping("/login")
     @Operation(summary = "User Login", description = "Authenticate user with email and password. Returns JWT access token and refresh token.", tags = {
@@ -50,11 +50,9 @@ public class AuthController {
             authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword()));
 
-            final UserDetails userDetails = userDetailsService.loadUserByUsername(request.getEmail());
-            final String accessToken = jwtUtil.generateAccessToken(userDetails);
-            final String refreshToken = jwtUtil.generateRefreshToken(userDetails);
-
-            return ResponseEntity.ok(new AuthResponse(accessToken, refreshToken));
+            AuthenticatedUser user = principalCache.get(request.getEmail())
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            return ResponseEntity.ok(refreshTokenService.issue(user));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid credentials");
         }
@@ -71,22 +69,10 @@ public class AuthController {
     @SecurityRequirement(name = "")
     public ResponseEntity<?> refresh(@RequestBody RefreshRequest request) {
         try {
-            String refreshToken = request.getRefreshToken();
-
-            if (!jwtUtil.isRefreshToken(refreshToken)) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid refresh token");
-            }
-
-            String username = jwtUtil.extractUsername(refreshToken);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-            if (jwtUtil.validateToken(refreshToken, userDetails)) {
-                String newAccessToken = jwtUtil.generateAccessToken(userDetails);
-                String newRefreshToken = jwtUtil.generateRefreshToken(userDetails);
-                return ResponseEntity.ok(new AuthResponse(newAccessToken, newRefreshToken));
-            }
-
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid refresh token");
+            // Rotates the token family in the refresh token store; no users-table query
+            return refreshTokenService.refresh(request.getRefreshToken())
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid refresh token"));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid refresh token");
         }
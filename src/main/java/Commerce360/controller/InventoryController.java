@@ -8,10 +8,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import Commerce360.dto.BulkInventoryRequest;
+import Commerce360.dto.BulkInventoryResultDTO;
 import Commerce360.dto.InventoryDTO;
+import Commerce360.dto.InventoryImportResultDTO;
+import Commerce360.service.InventoryImportService;
 import Commerce360.service.InventoryService;
 import Commerce360.service.ReportService;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.UUID;
@@ -32,9 +38,14 @@ public class InventoryController {
     @Autowired
     private final ReportService reportService;
 
-    public InventoryController(InventoryService inventoryService, ReportService reportService) {
+    @Autowired
+    private final InventoryImportService inventoryImportService;
+
+    public InventoryController(InventoryService inventoryService, ReportService reportService,
+            InventoryImportService inventoryImportService) {
         this.inventoryService = inventoryService;
         this.reportService = reportService;
+        this.inventoryImportService = inventoryImportService;
     }
 
     @PostMapping("/stock-in")
@@ -82,6 +93,28 @@ public class InventoryController {
         return ResponseEntity.ok(inventoryService.removeStock(storeId, productId, quantity, reason));
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('STORE_MANAGER')")
+    @Operation(summary = "Bulk Stock In / Sale", description = "Apply a batch of STOCK_IN and SALE lines (e.g. an end-of-shift POS export) in one request. Invalid lines are skipped and reported (STORE_MANAGER only)")
+    public ResponseEntity<BulkInventoryResultDTO> bulkUpdate(
+            @RequestParam UUID storeId,
+            @RequestBody BulkInventoryRequest request) {
+        return ResponseEntity.ok(inventoryService.bulkUpdate(storeId, request.getLines()));
+    }
+
+    @PostMapping(value = "/import", consumes = { "text/csv", "application/x-ndjson", "text/plain" })
+    @PreAuthorize("hasRole('STORE_MANAGER')")
+    @Operation(summary = "Import Store Inventory", description = "Stream a CSV (header: productId,quantity,expiryDate,batchNumber,notes) or NDJSON body into store inventory. Rows are committed in chunks; per-row errors are reported at the end (STORE_MANAGER only)")
+    public ResponseEntity<InventoryImportResultDTO> importInventory(
+            @RequestParam UUID storeId,
+            @RequestHeader(value = "Content-Type", required = false) String contentType,
+            InputStream body) throws IOException {
+        InventoryImportService.Format format = contentType != null && contentType.contains("ndjson")
+                ? InventoryImportService.Format.NDJSON
+                : InventoryImportService.Format.CSV;
+        return ResponseEntity.ok(inventoryImportService.importStock(storeId, format, body));
+    }
+
     @GetMapping("/store/{storeId}")
     @PreAuthorize("hasRole('STORE_MANAGER')")
     @Operation(summary = "Get Store Inventory", description = "Get all inventory items for a specific store with pagination (STORE_MANAGER only)")
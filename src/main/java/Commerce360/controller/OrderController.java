@@ -1,5 +1,6 @@
 package Commerce360.controller;
 
+import Commerce360.dto.CursorPage;
 import Commerce360.dto.OrderDTO;
 import Commerce360.dto.StoreRatingDTO;
 import Commerce360.entity.OrderStatus;
@@ -128,6 +129,27 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/customer/{customerId}/scroll")
+    @PreAuthorize("hasRole('CUSTOMER') or hasRole('ADMIN')")
+    @Operation(summary = "Scroll Customer's Orders", description = "Customer orders newest first using cursor pagination; pass nextCursor back as cursor to continue (CUSTOMER or ADMIN)")
+    public ResponseEntity<CursorPage<OrderDTO>> scrollCustomerOrders(
+            @PathVariable UUID customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(orderService.scrollCustomerOrders(customerId, cursor, size));
+    }
+
+    @GetMapping("/store/{storeId}/scroll")
+    @PreAuthorize("hasRole('STORE_MANAGER') or hasRole('ADMIN')")
+    @Operation(summary = "Scroll Store's Orders", description = "Store orders newest first using cursor pagination, optionally filtered by status (STORE_MANAGER or ADMIN)")
+    public ResponseEntity<CursorPage<OrderDTO>> scrollStoreOrders(
+            @PathVariable UUID storeId,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(orderService.scrollStoreOrders(storeId, status, cursor, size));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('CUSTOMER') or hasRole('STORE_MANAGER') or hasRole('ADMIN')")
     @Operation(summary = "Get Order Details", description = "Get detailed information about a specific order")
@@ -1,14 +1,17 @@
 package Commerce360.controller;
 
 import Commerce360.entity.Product;
+import Commerce360.service.ProductSearchService;
 import Commerce360.service.ProductService;
+import Commerce360.service.ProductSortRegistry;
 import Commerce360.service.RateLimiterService;
+import Commerce360.dto.CursorPage;
 import Commerce360.dto.ProductDTO;
+import Commerce360.dto.ProductSearchResultDTO;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -27,21 +30,23 @@ public class ProductController {
     private final ProductService productService;
     @Autowired
     private final RateLimiterService rateLimiterService;
+    @Autowired
+    private final ProductSearchService productSearchService;
 
-    public ProductController(ProductService productService, RateLimiterService rateLimiterService) {
+    public ProductController(ProductService productService, RateLimiterService rateLimiterService,
+            ProductSearchService productSearchService) {
         this.productService = productService;
         this.rateLimiterService = rateLimiterService;
+        this.productSearchService = productSearchService;
     }
 
     // Test endpoint for rate limiter metrics
     @GetMapping("/test-metrics")
     public ResponseEntity<String> testMetrics(@RequestParam(defaultValue = "test-client") String clientId) {
-        try {
-            rateLimiterService.tryAcquire(clientId);
+        if (rateLimiterService.tryAcquire(clientId)) {
             return ResponseEntity.ok("Request allowed");
-        } catch (Exception e) {
-            return ResponseEntity.status(429).body("Rate limit exceeded");
         }
+        return ResponseEntity.status(429).body("Rate limit exceeded");
     }
 
     @GetMapping
@@ -52,17 +57,19 @@ public class ProductController {
             @RequestParam(required = false) String sortBy,
             @RequestParam(required = false) String sortDirection) {
 
-        Sort.Direction direction = sortDirection != null && sortDirection.equalsIgnoreCase("desc")
-                ? Sort.Direction.DESC
-                : Sort.Direction.ASC;
-
-        Sort sort = sortBy != null ? Sort.by(direction, sortBy) : Sort.unsorted();
-        PageRequest pageRequest = PageRequest.of(page, size, sort);
+        PageRequest pageRequest = PageRequest.of(page, size, ProductSortRegistry.resolve(sortBy, sortDirection));
 
-        Page<Product> products = productService.getAllProducts(pageRequest);
-        Page<ProductDTO> productDTOs = products.map(ProductDTO::fromEntity);
+        return ResponseEntity.ok(productService.getAllProducts(pageRequest));
+    }
 
-        return ResponseEntity.ok(productDTOs);
+    // SCROLL PRODUCTS WITH A CURSOR
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll Products", description = "Catalog in a stable order using cursor pagination, optionally within one category; pass nextCursor back as cursor to continue")
+    public ResponseEntity<CursorPage<ProductDTO>> scrollProducts(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(productService.scrollProducts(category, cursor, size));
     }
 
     // GET PRODUCTS BY CATEGORY
@@ -75,17 +82,9 @@ public class ProductController {
             @RequestParam(required = false) String sortBy,
             @RequestParam(required = false) String sortDirection) {
 
-        Sort.Direction direction = sortDirection != null && sortDirection.equalsIgnoreCase("desc")
-                ? Sort.Direction.DESC
-                : Sort.Direction.ASC;
+        PageRequest pageRequest = PageRequest.of(page, size, ProductSortRegistry.resolve(sortBy, sortDirection));
 
-        Sort sort = sortBy != null ? Sort.by(direction, sortBy) : Sort.unsorted();
-        PageRequest pageRequest = PageRequest.of(page, size, sort);
-
-        Page<Product> products = productService.getProductsByCategory(category, pageRequest);
-        Page<ProductDTO> productDTOs = products.map(ProductDTO::fromEntity);
-
-        return ResponseEntity.ok(productDTOs);
+        return ResponseEntity.ok(productService.getProductsByCategory(category, pageRequest));
     }
 
     // SEARCH PRODUCTS
@@ -98,12 +97,7 @@ public class ProductController {
             @RequestParam(required = false) String sortBy,
             @RequestParam(required = false) String sortDirection) {
 
-        Sort.Direction direction = sortDirection != null && sortDirection.equalsIgnoreCase("desc")
-                ? Sort.Direction.DESC
-                : Sort.Direction.ASC;
-
-        Sort sort = sortBy != null ? Sort.by(direction, sortBy) : Sort.unsorted();
-        PageRequest pageRequest = PageRequest.of(page, size, sort);
+        PageRequest pageRequest = PageRequest.of(page, size, ProductSortRegistry.resolve(sortBy, sortDirection));
 
         Page<Product> products = productService.searchProducts(query, pageRequest);
         Page<ProductDTO> productDTOs = products.map(ProductDTO::fromEntity);
@@ -111,6 +105,18 @@ public class ProductController {
         return ResponseEntity.ok(productDTOs);
     }
 
+    // FULL-TEXT SEARCH WITH FACETS
+    @GetMapping("/search/full-text")
+    @Operation(summary = "Full-Text Product Search", description = "Relevance-ranked search over name, SKU, brand, category and description with prefix and typo-tolerant matching, plus match counts by category and brand")
+    public ResponseEntity<ProductSearchResultDTO> fullTextSearch(
+            @RequestParam String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String brand,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(productSearchService.search(q, category, brand, page, size));
+    }
+
     // GET PRODUCTS BY SUPPLIER
     @GetMapping("/supplier/{supplierId}")
     @Operation(summary = "Get Products by Supplier", description = "Get all products offered by a specific supplier")
@@ -121,12 +127,7 @@ public class ProductController {
             @RequestParam(required = false) String sortBy,
             @RequestParam(required = false) String sortDirection) {
 
-        Sort.Direction direction = sortDirection != null && sortDirection.equalsIgnoreCase("desc")
-                ? Sort.Direction.DESC
-                : Sort.Direction.ASC;
-
-        Sort sort = sortBy != null ? Sort.by(direction, sortBy) : Sort.unsorted();
-        PageRequest pageRequest = PageRequest.of(page, size, sort);
+        PageRequest pageRequest = PageRequest.of(page, size, ProductSortRegistry.resolve(sortBy, sortDirection));
 
         Page<Product> products = productService.getProductsBySupplier(supplierId, pageRequest);
         Page<ProductDTO> productDTOs = products.map(ProductDTO::fromEntity);
@@ -146,25 +147,16 @@ public class ProductController {
             @RequestParam(required = false) String sortBy,
             @RequestParam(required = false) String sortDirection) {
 
-        Sort.Direction direction = sortDirection != null && sortDirection.equalsIgnoreCase("desc")
-                ? Sort.Direction.DESC
-                : Sort.Direction.ASC;
+        PageRequest pageRequest = PageRequest.of(page, size, ProductSortRegistry.resolve(sortBy, sortDirection));
 
-        Sort sort = sortBy != null ? Sort.by(direction, sortBy) : Sort.unsorted();
-        PageRequest pageRequest = PageRequest.of(page, size, sort);
-
-        Page<Product> products = productService.getProductsWithFilters(category, supplierId, searchQuery, pageRequest);
-        Page<ProductDTO> productDTOs = products.map(ProductDTO::fromEntity);
-
-        return ResponseEntity.ok(productDTOs);
+        return ResponseEntity.ok(productService.getProductsWithFilters(category, supplierId, searchQuery, pageRequest));
     }
 
     // GET PRODUCT BY ID
     @GetMapping("/{id}")
     @Operation(summary = "Get Product Details", description = "Get detailed information about a specific product by ID")
     public ResponseEntity<ProductDTO> getProductById(@PathVariable UUID id) {
-        return productService.getProductById(id)
-                .map(ProductDTO::fromEntity)
+        return productService.getProductDetails(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -1,6 +1,7 @@
 package Commerce360.controller;
 
 import Commerce360.dto.CreatePurchaseOrderRequest;
+import Commerce360.dto.CursorPage;
 import Commerce360.dto.PurchaseOrderDTO;
 import Commerce360.entity.PurchaseOrderStatus;
 import Commerce360.service.PurchaseOrderService;
@@ -124,6 +125,20 @@ public class PurchaseOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/store/{storeId}/scroll")
+    @PreAuthorize("hasRole('STORE_MANAGER') or hasRole('ADMIN')")
+    @Operation(
+        summary = "Scroll Store's Purchase Orders",
+        description = "Purchase orders of a store newest first using cursor pagination, optionally filtered by status (STORE_MANAGER or ADMIN)"
+    )
+    public ResponseEntity<CursorPage<PurchaseOrderDTO>> scrollPurchaseOrdersByStore(
+            @PathVariable UUID storeId,
+            @RequestParam(required = false) PurchaseOrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(purchaseOrderService.scrollPurchaseOrdersByStore(storeId, status, cursor, size));
+    }
+
     @GetMapping("/supplier/{supplierId}")
     @PreAuthorize("hasRole('SUPPLIER') or hasRole('ADMIN')")
     @Operation(
@@ -5,6 +5,7 @@ import com.stripe.model.Event;
 import com.stripe.model.PaymentIntent;
 import com.stripe.model.StripeObject;
 import com.stripe.net.Webhook;
+import Commerce360.config.RateLimit;
 import Commerce360.service.StripePaymentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,8 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/webhooks")
 @RequiredArgsConstructor
 @Slf4j
+// Stripe delivers bursts from a few addresses; give it its own, larger bucket
+@RateLimit(name = "stripe-webhook", key = RateLimit.Key.IP, capacity = 200, leakRate = 50)
 public class StripeWebhookController {
 
     @Value("${stripe.webhook.secret}")
@@ -22,6 +22,7 @@ public class AuditLogDTO {
     private String details;
     private String ipAddress;
     private String userAgent;
+    private String systemPrincipal;
 
     public static AuditLogDTO fromEntity(AuditLog auditLog) {
         return AuditLogDTO.builder()
@@ -37,6 +38,7 @@ public class AuditLogDTO {
                 .details(auditLog.getDetails())
                 .ipAddress(auditLog.getIpAddress())
                 .userAgent(auditLog.getUserAgent())
+                .systemPrincipal(auditLog.getSystemPrincipal())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package Commerce360.dto;
+
+import Commerce360.entity.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkInventoryRequest {
+
+    @Builder.Default
+    private List<BulkInventoryLine> lines = new ArrayList<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkInventoryLine {
+        private TransactionType type; // STOCK_IN or SALE
+        private UUID productId;
+        private Integer quantity;
+        private LocalDateTime expiryDate;
+        private String batchNumber;
+        private String notes;
+    }
+}
@@ -0,0 +1,34 @@
+package Commerce360.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkInventoryResultDTO {
+    private Integer totalLines;
+    private Integer appliedLines;
+    private Integer stockInLines;
+    private Integer saleLines;
+
+    @Builder.Default
+    private List<LineError> errors = new ArrayList<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineError {
+        private Integer lineNumber;
+        private UUID productId;
+        private String message;
+    }
+}
@@ -0,0 +1,19 @@
+package Commerce360.dto;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+// Immutable, serializable copy of a Page for the cache; PageImpl itself cannot be read back from JSON
+public record CachedPage<T>(List<T> content, long totalElements) {
+
+    public static <T> CachedPage<T> of(Page<T> page) {
+        return new CachedPage<>(List.copyOf(page.getContent()), page.getTotalElements());
+    }
+
+    public Page<T> toPage(Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
@@ -0,0 +1,17 @@
+package Commerce360.dto;
+
+import lombok.*;
+import java.util.List;
+
+// One slice of a keyset-paginated listing. nextCursor is opaque; pass it back as ?cursor= to continue.
+// There is no total count, so no COUNT(*) query is run.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
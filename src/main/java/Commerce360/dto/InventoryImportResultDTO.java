@@ -0,0 +1,24 @@
+package Commerce360.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryImportResultDTO {
+    private Long rowsRead;
+    private Long rowsImported;
+    private Integer chunksCommitted;
+    private Long errorCount;
+    private Boolean errorsTruncated; // Only the first errors are returned to keep the response bounded
+
+    @Builder.Default
+    private List<BulkInventoryResultDTO.LineError> errors = new ArrayList<>();
+}
@@ -18,6 +18,7 @@ public class ProductDTO {
     private String sku;
     private String name;
     private String category;
+    private String brand;
     private BigDecimal price;
     private SupplierDTO supplier;
 
@@ -31,6 +32,7 @@ public class ProductDTO {
                 .sku(product.getSku())
                 .name(product.getName())
                 .category(product.getCategory())
+                .brand(product.getBrand())
                 .price(product.getPrice())
                 .supplier(product.getSupplier() != null ? SupplierDTO.fromEntity(product.getSupplier()) : null)
                 .build();
@@ -0,0 +1,19 @@
+package Commerce360.dto;
+
+import lombok.*;
+import java.util.List;
+import java.util.Map;
+
+// One page of ranked search results. The facets count every match, not just this page, by category and brand.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchResultDTO {
+    private List<ProductDTO> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private Map<String, Long> categoryFacets;
+    private Map<String, Long> brandFacets;
+}
@@ -0,0 +1,19 @@
+package Commerce360.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockShortageDTO {
+    private UUID productId;
+    private String productName;
+    private Integer requestedQuantity;
+    private Integer availableQuantity;
+}
@@ -5,6 +5,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+// audit_logs is range-partitioned by month on timestamp, so the primary key in the database is
+// (id, timestamp). Partitions and indexes are managed by AuditPartitionService, not by Hibernate.
 @Entity
 @Table(name = "audit_logs")
 @Getter
@@ -45,4 +47,8 @@ public class AuditLog {
 
     @Column
     private String userAgent;
+
+    // Set instead of user for work done by the application itself, such as scheduled jobs
+    @Column(name = "system_principal")
+    private String systemPrincipal;
 }
\ No newline at end of file
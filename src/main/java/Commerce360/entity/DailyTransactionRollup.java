@@ -0,0 +1,55 @@
+package Commerce360.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// One row per store, product, supplier, transaction type and day, kept in step with the transactions table
+// by TransactionRollupListener. Reports read these instead of scanning raw transactions. The supplier is the
+// one recorded on each transaction, so a product changing supplier does not rewrite its history.
+@Entity
+@Table(name = "daily_transaction_rollups", uniqueConstraints = @UniqueConstraint(name = "uk_daily_rollup_key", columnNames = {
+        "store_id", "product_id", "supplier_id", "type", "rollup_date" }), indexes = @Index(name = "idx_daily_rollup_store_date", columnList = "store_id, rollup_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyTransactionRollup {
+    // Stands in for transactions without a supplier; PostgreSQL treats NULLs in a unique key as distinct,
+    // so a NULL here would never meet its own row in ON CONFLICT
+    public static final UUID NO_SUPPLIER = new UUID(0L, 0L);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "supplier_id", nullable = false)
+    private UUID supplierId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(nullable = false)
+    private Long transactionCount;
+
+    @Column(nullable = false)
+    private Long totalQuantity;
+
+    @Column(nullable = false)
+    private Double totalAmount;
+
+    @Column(nullable = false)
+    private Double unitPriceSum; // Lets reports compute the same per-transaction average price as before
+}
@@ -6,7 +6,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "inventory")
+@Table(name = "inventory", indexes = {
+        @Index(name = "idx_inventory_store_expiry", columnList = "store_id, expiry_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
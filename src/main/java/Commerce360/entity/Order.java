@@ -2,6 +2,7 @@ package Commerce360.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -9,7 +10,12 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "orders")
+// Cursor listings seek on (order_date, id) within a store or customer; these indexes serve them
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_store_date", columnList = "store_id, order_date, id"),
+        @Index(name = "idx_orders_store_status_date", columnList = "store_id, status, order_date, id"),
+        @Index(name = "idx_orders_customer_date", columnList = "customer_id, order_date, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -78,6 +84,8 @@ public class Order {
     @Column(columnDefinition = "TEXT")
     private String notes;
 
+    // Loaded for a whole page of orders at once instead of one select per order
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<OrderItem> orderItems = new ArrayList<>();
@@ -39,4 +39,9 @@ public class OrderItem {
 
     @Column
     private String productSku; // Snapshot at time of order
+
+    // Inventory row reserveStock reserved this line on; delivery and cancellation settle the same row.
+    // No foreign key, so purging an expired batch does not depend on its order history.
+    @Column(name = "reserved_inventory_id")
+    private UUID reservedInventoryId;
 }
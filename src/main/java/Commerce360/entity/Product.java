@@ -6,7 +6,15 @@ import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
-@Table(name = "products")
+// Every sort key in ProductSortRegistry has an index here; sku is covered by its unique constraint
+@Table(name = "products", indexes = {
+        // Also serves the cursor listing within a category
+        @Index(name = "idx_products_category_id", columnList = "category, id"),
+        @Index(name = "idx_products_category_price_id", columnList = "category, price, id"),
+        @Index(name = "idx_products_name_id", columnList = "name, id"),
+        @Index(name = "idx_products_brand_id", columnList = "brand, id"),
+        @Index(name = "idx_products_price_id", columnList = "price, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -2,6 +2,7 @@ package Commerce360.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -9,7 +10,11 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "purchase_orders")
+// Cursor listings seek on (order_date, id) within a store; these indexes serve them
+@Table(name = "purchase_orders", indexes = {
+        @Index(name = "idx_purchase_orders_store_date", columnList = "store_id, order_date, id"),
+        @Index(name = "idx_purchase_orders_store_status_date", columnList = "store_id, status, order_date, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -71,6 +76,8 @@ public class PurchaseOrder {
     @Column(columnDefinition = "TEXT")
     private String cancellationReason;
 
+    // Loaded for a whole page of purchase orders at once instead of one select per purchase order
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "purchaseOrder", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<PurchaseOrderItem> purchaseOrderItems = new ArrayList<>();
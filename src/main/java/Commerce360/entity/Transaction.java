@@ -7,6 +7,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "transactions")
+@EntityListeners(TransactionRollupListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,23 @@
+package Commerce360.entity;
+
+import jakarta.persistence.PrePersist;
+import org.springframework.beans.factory.ObjectProvider;
+
+import Commerce360.service.TransactionRollupService;
+
+// Captures every new Transaction so the daily rollup stays in step without touching each call site.
+// Instantiated by Spring's Hibernate bean container; the service is resolved lazily to avoid a
+// dependency cycle with the EntityManagerFactory.
+public class TransactionRollupListener {
+
+    private final ObjectProvider<TransactionRollupService> rollupService;
+
+    public TransactionRollupListener(ObjectProvider<TransactionRollupService> rollupService) {
+        this.rollupService = rollupService;
+    }
+
+    @PrePersist
+    public void onPersist(Transaction transaction) {
+        rollupService.getObject().capture(transaction);
+    }
+}
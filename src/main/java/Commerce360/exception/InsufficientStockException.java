@@ -0,0 +1,18 @@
+package Commerce360.exception;
+
+import Commerce360.dto.StockShortageDTO;
+
+import java.util.List;
+
+public class InsufficientStockException extends RuntimeException {
+    private final List<StockShortageDTO> shortages;
+
+    public InsufficientStockException(List<StockShortageDTO> shortages) {
+        super("Insufficient stock for " + shortages.size() + " item(s)");
+        this.shortages = List.copyOf(shortages);
+    }
+
+    public List<StockShortageDTO> getShortages() {
+        return shortages;
+    }
+}
@@ -0,0 +1,8 @@
+package Commerce360.exception;
+
+// A malformed or unsupported query parameter (cursor, sort key); reported as 400 rather than 500
+public class InvalidQueryParameterException extends RuntimeException {
+    public InvalidQueryParameterException(String message) {
+        super(message);
+    }
+}
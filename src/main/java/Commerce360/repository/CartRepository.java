@@ -4,6 +4,7 @@ import Commerce360.entity.Cart;
 import Commerce360.entity.CartStatus;
 import Commerce360.entity.Customer;
 import Commerce360.entity.Store;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,8 +14,11 @@ import java.util.UUID;
 
 @Repository
 public interface CartRepository extends JpaRepository<Cart, UUID> {
+    // Carts are returned whole, so the items and their products come in the same query
+    @EntityGraph(attributePaths = { "store", "cartItems.product" })
     Optional<Cart> findByCustomerAndStoreAndStatus(Customer customer, Store store, CartStatus status);
 
+    @EntityGraph(attributePaths = { "store", "cartItems.product" })
     List<Cart> findByCustomerAndStatus(Customer customer, CartStatus status);
 
     List<Cart> findByCustomer(Customer customer);
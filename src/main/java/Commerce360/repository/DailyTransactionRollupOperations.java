@@ -0,0 +1,11 @@
+package Commerce360.repository;
+
+import Commerce360.entity.DailyTransactionRollup;
+
+import java.util.Collection;
+
+public interface DailyTransactionRollupOperations {
+
+    // Adds each delta to its (store, product, supplier, type, day) row, creating the row if needed, in one JDBC batch
+    void upsertAll(Collection<DailyTransactionRollup> deltas);
+}
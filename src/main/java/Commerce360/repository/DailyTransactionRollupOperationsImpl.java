@@ -0,0 +1,72 @@
+package Commerce360.repository;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import Commerce360.entity.DailyTransactionRollup;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+public class DailyTransactionRollupOperationsImpl implements DailyTransactionRollupOperations {
+
+    private static final String UPSERT_SQL = "INSERT INTO daily_transaction_rollups "
+            + "(id, store_id, product_id, supplier_id, type, rollup_date, transaction_count, total_quantity, "
+            + "total_amount, unit_price_sum) "
+            + "VALUES (gen_random_uuid(), ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (store_id, product_id, supplier_id, type, rollup_date) DO UPDATE SET "
+            + "transaction_count = daily_transaction_rollups.transaction_count + EXCLUDED.transaction_count, "
+            + "total_quantity = daily_transaction_rollups.total_quantity + EXCLUDED.total_quantity, "
+            + "total_amount = daily_transaction_rollups.total_amount + EXCLUDED.total_amount, "
+            + "unit_price_sum = daily_transaction_rollups.unit_price_sum + EXCLUDED.unit_price_sum";
+
+    // Consistent key order keeps concurrent upserts from deadlocking on each other's rows
+    private static final Comparator<DailyTransactionRollup> KEY_ORDER = Comparator
+            .comparing(DailyTransactionRollup::getStoreId)
+            .thenComparing(DailyTransactionRollup::getProductId)
+            .thenComparing(DailyTransactionRollup::getSupplierId)
+            .thenComparing(DailyTransactionRollup::getType)
+            .thenComparing(DailyTransactionRollup::getRollupDate);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DailyTransactionRollupOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsertAll(Collection<DailyTransactionRollup> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<DailyTransactionRollup> rows = new ArrayList<>(deltas);
+        rows.sort(KEY_ORDER);
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                DailyTransactionRollup row = rows.get(i);
+                ps.setObject(1, row.getStoreId());
+                ps.setObject(2, row.getProductId());
+                ps.setObject(3, row.getSupplierId());
+                ps.setString(4, row.getType().name());
+                ps.setDate(5, Date.valueOf(row.getRollupDate()));
+                ps.setLong(6, row.getTransactionCount());
+                ps.setLong(7, row.getTotalQuantity());
+                ps.setDouble(8, row.getTotalAmount());
+                ps.setDouble(9, row.getUnitPriceSum());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package Commerce360.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import Commerce360.entity.DailyTransactionRollup;
+import Commerce360.entity.TransactionType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DailyTransactionRollupRepository extends JpaRepository<DailyTransactionRollup, UUID>,
+        DailyTransactionRollupOperations {
+
+    // All ranges are half-open: fromDate inclusive, toDate exclusive
+    @Query("SELECT r.type AS type, SUM(r.transactionCount) AS transactionCount, SUM(r.totalQuantity) AS totalQuantity, "
+            + "SUM(r.totalAmount) AS totalAmount, SUM(r.unitPriceSum) AS unitPriceSum "
+            + "FROM DailyTransactionRollup r "
+            + "WHERE r.storeId = :storeId AND r.rollupDate >= :fromDate AND r.rollupDate < :toDate "
+            + "GROUP BY r.type")
+    List<TransactionTypeTotals> sumByType(@Param("storeId") UUID storeId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    @Query("SELECT p.name AS name, SUM(r.totalQuantity) AS totalQuantity, SUM(r.totalAmount) AS totalAmount "
+            + "FROM DailyTransactionRollup r JOIN Product p ON p.id = r.productId "
+            + "WHERE r.storeId = :storeId AND r.type = :type AND r.rollupDate >= :fromDate AND r.rollupDate < :toDate "
+            + "GROUP BY p.name")
+    List<NamedTransactionTotals> sumByProduct(@Param("storeId") UUID storeId,
+            @Param("type") TransactionType type,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    @Query("SELECT s.companyName AS name, SUM(r.totalQuantity) AS totalQuantity, SUM(r.totalAmount) AS totalAmount "
+            + "FROM DailyTransactionRollup r JOIN Supplier s ON s.id = r.supplierId "
+            + "WHERE r.storeId = :storeId AND r.type = :type AND r.rollupDate >= :fromDate AND r.rollupDate < :toDate "
+            + "GROUP BY s.companyName")
+    List<NamedTransactionTotals> sumBySupplier(@Param("storeId") UUID storeId,
+            @Param("type") TransactionType type,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    @Query("SELECT COALESCE(SUM(r.transactionCount), 0) FROM DailyTransactionRollup r")
+    long sumTransactionCount();
+
+    // Rebuilds rollups from the transactions table; callers empty the table first
+    @Modifying
+    @Query(value = "INSERT INTO daily_transaction_rollups "
+            + "(id, store_id, product_id, supplier_id, type, rollup_date, transaction_count, total_quantity, "
+            + "total_amount, unit_price_sum) "
+            + "SELECT gen_random_uuid(), t.store_id, t.product_id, "
+            + "COALESCE(t.supplier_id, '00000000-0000-0000-0000-000000000000'), t.type, "
+            + "CAST(t.transaction_date AS date), COUNT(*), SUM(t.quantity), SUM(t.total_amount), SUM(t.unit_price) "
+            + "FROM transactions t "
+            + "GROUP BY t.store_id, t.product_id, COALESCE(t.supplier_id, '00000000-0000-0000-0000-000000000000'), "
+            + "t.type, CAST(t.transaction_date AS date)", nativeQuery = true)
+    int backfillFromTransactions();
+}
@@ -0,0 +1,12 @@
+package Commerce360.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+// Set-based inventory writes that bypass the persistence context and go out as one JDBC batch
+public interface InventoryBulkOperations {
+
+    // Adds quantities[i] to the reserved quantity of inventoryIds[i], but only while the row still
+    // has that much available stock. Returns the affected row count per entry (0 = guard failed).
+    int[] reserveQuantities(List<UUID> inventoryIds, List<Integer> quantities);
+}
@@ -0,0 +1,46 @@
+package Commerce360.repository;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+public class InventoryBulkOperationsImpl implements InventoryBulkOperations {
+
+    private static final String RESERVE_SQL = "UPDATE inventory "
+            + "SET reserved_quantity = COALESCE(reserved_quantity, 0) + ? "
+            + "WHERE id = ? AND quantity - COALESCE(reserved_quantity, 0) >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public InventoryBulkOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int[] reserveQuantities(List<UUID> inventoryIds, List<Integer> quantities) {
+        if (inventoryIds.size() != quantities.size()) {
+            throw new IllegalArgumentException("Inventory ids and quantities must have the same size");
+        }
+        if (inventoryIds.isEmpty()) {
+            return new int[0];
+        }
+
+        return jdbcTemplate.batchUpdate(RESERVE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, quantities.get(i));
+                ps.setObject(2, inventoryIds.get(i));
+                ps.setInt(3, quantities.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return inventoryIds.size();
+            }
+        });
+    }
+}
@@ -2,26 +2,92 @@ package Commerce360.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import Commerce360.entity.Inventory;
 import Commerce360.entity.Store;
 import Commerce360.entity.Product;
 
+import jakarta.persistence.LockModeType;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface InventoryRepository extends JpaRepository<Inventory, UUID>, JpaSpecificationExecutor<Inventory> {
+public interface InventoryRepository extends JpaRepository<Inventory, UUID>, JpaSpecificationExecutor<Inventory>,
+        InventoryBulkOperations {
     List<Inventory> findByStore(Store store);
 
+    @Query("SELECT COALESCE(SUM(i.quantity), 0) FROM Inventory i WHERE i.store = :store")
+    long sumQuantityByStore(@Param("store") Store store);
+
     Optional<Inventory> findByStoreAndProduct(Store store, Product product);
 
+    // The product's non-expiring row, which stock-ins without an expiry date add to
+    Optional<Inventory> findFirstByStoreAndProductAndExpiryDateIsNull(Store store, Product product);
+
+    @Query("SELECT i FROM Inventory i JOIN FETCH i.product p WHERE i.store = :store AND p.id IN :productIds")
+    List<Inventory> findByStoreAndProductIds(@Param("store") Store store,
+            @Param("productIds") Collection<UUID> productIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Inventory i JOIN FETCH i.product p WHERE i.store = :store AND p.id IN :productIds")
+    List<Inventory> findByStoreAndProductIdsForUpdate(@Param("store") Store store,
+            @Param("productIds") Collection<UUID> productIds);
+
+    // Guarded decrement: only succeeds while the row keeps enough unreserved stock.
+    // Returns 0 when the guard fails or the row is gone; callers tell the two apart.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity - :quantity, i.lastUpdated = :now "
+            + "WHERE i.id = :id AND i.quantity - COALESCE(i.reservedQuantity, 0) >= :quantity")
+    int decrementQuantity(@Param("id") UUID id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    // Settle a reservation made by reserveQuantities on the same row. Both only succeed while the row still
+    // holds the reserved units, so they cannot undo a concurrent reservation or drive a count negative.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.reservedQuantity = i.reservedQuantity - :quantity "
+            + "WHERE i.id = :id AND i.reservedQuantity >= :quantity")
+    int releaseReserved(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity - :quantity, "
+            + "i.reservedQuantity = i.reservedQuantity - :quantity, i.lastUpdated = :now "
+            + "WHERE i.id = :id AND i.reservedQuantity >= :quantity AND i.quantity >= :quantity")
+    int consumeReserved(@Param("id") UUID id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
     List<Inventory> findByExpiryDateBefore(LocalDateTime date);
 
+    // Keyset page of expired rows ordered by id; rows are locked so a concurrent purge cannot record them twice
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Inventory i JOIN FETCH i.product p JOIN FETCH i.store "
+            + "WHERE i.expiryDate < :now AND i.id > :afterId ORDER BY i.id")
+    List<Inventory> findExpiredAfter(@Param("now") LocalDateTime now, @Param("afterId") UUID afterId,
+            Pageable limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Inventory i WHERE i.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Served by idx_inventory_store_expiry; only the store's own expiring batches are read
+    @Query("SELECT COALESCE(SUM(i.quantity), 0) FROM Inventory i "
+            + "WHERE i.store = :store AND i.expiryDate < :date")
+    long sumQuantityByStoreAndExpiryDateBefore(@Param("store") Store store, @Param("date") LocalDateTime date);
+
     Page<Inventory> findByStoreAndProductCategory(Store store, String category, Pageable pageable);
+
+    // store and product are eager; joining them keeps a page of InventoryDTOs at one select plus the count
+    @Override
+    @EntityGraph(attributePaths = { "store", "product" })
+    Page<Inventory> findAll(Specification<Inventory> spec, Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package Commerce360.repository;
+
+// Per product or per supplier totals for the top-N report sections
+public interface NamedTransactionTotals {
+    String getName();
+
+    Long getTotalQuantity();
+
+    Double getTotalAmount();
+}
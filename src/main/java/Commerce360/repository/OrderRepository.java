@@ -6,7 +6,9 @@ import Commerce360.entity.OrderStatus;
 import Commerce360.entity.Store;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,13 +19,18 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, UUID> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecificationExecutor<Order> {
     Optional<Order> findByOrderNumber(String orderNumber);
 
+    // Listings fetch everything OrderDTO reads except the items, which are batch-loaded per page. payment is
+    // the inverse side of a one-to-one and would otherwise cost one select per order.
+    @EntityGraph(attributePaths = { "customer.user", "store", "payment" })
     Page<Order> findByCustomer(Customer customer, Pageable pageable);
 
+    @EntityGraph(attributePaths = { "customer.user", "store", "payment" })
     Page<Order> findByStore(Store store, Pageable pageable);
 
+    @EntityGraph(attributePaths = { "customer.user", "store", "payment" })
     Page<Order> findByStoreAndStatus(Store store, OrderStatus status, Pageable pageable);
 
     List<Order> findByCustomerAndStatus(Customer customer, OrderStatus status);
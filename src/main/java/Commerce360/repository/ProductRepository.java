@@ -5,20 +5,47 @@ import Commerce360.entity.Supplier;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, UUID>, JpaSpecificationExecutor<Product> {
+public interface ProductRepository extends JpaRepository<Product, UUID>, JpaSpecificationExecutor<Product>,
+        ProductSearchOperations {
     Optional<Product> findBySku(String sku); // Find product by SKU
 
+    // Product pages fetch the supplier, and its eager user, in the page query
+    @EntityGraph(attributePaths = { "supplier.user" })
     Page<Product> findByCategory(String category, Pageable pageable);
 
+    @EntityGraph(attributePaths = { "supplier.user" })
     Page<Product> findByNameContainingIgnoreCaseOrSkuContainingIgnoreCase(String name, String sku, Pageable pageable);
 
+    @EntityGraph(attributePaths = { "supplier.user" })
     Page<Product> findBySupplier(Supplier supplier, Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = { "supplier.user" })
+    Page<Product> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = { "supplier.user" })
+    Page<Product> findAll(Specification<Product> spec, Pageable pageable);
+
+    // Loads a page of search hits with their suppliers in one query
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.supplier s LEFT JOIN FETCH s.user WHERE p.id IN :ids")
+    List<Product> findWithSupplierByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Whole catalog for the in-memory snapshot, in the order it is paged by default
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.supplier s LEFT JOIN FETCH s.user ORDER BY p.id")
+    List<Product> findAllWithSupplierOrderById();
 }
@@ -0,0 +1,29 @@
+package Commerce360.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Ranked product search over the products.search_vector column and the trigram index on lower(name).
+// Only available on PostgreSQL once ProductSearchService has prepared the index.
+public interface ProductSearchOperations {
+
+    // Null filters are ignored. terms are the normalized query words, at least one.
+    record SearchCriteria(List<String> terms, String category, String brand, UUID supplierId) {
+    }
+
+    record SearchHit(UUID productId, double score) {
+    }
+
+    // Best matches first: full-text rank on name, SKU, brand, category and description, plus the word
+    // similarity of the name so misspelled queries still rank the closest names on top
+    List<SearchHit> searchRanked(SearchCriteria criteria, long offset, int limit);
+
+    long countMatches(SearchCriteria criteria);
+
+    // Match counts per category and per brand. Each facet ignores its own filter, so the client can show
+    // how many results picking another value would give.
+    Map<String, Long> categoryFacets(SearchCriteria criteria, int limit);
+
+    Map<String, Long> brandFacets(SearchCriteria criteria, int limit);
+}
@@ -0,0 +1,99 @@
+package Commerce360.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class ProductSearchOperationsImpl implements ProductSearchOperations {
+
+    // The query is bound as parameters in place rather than through a CTE, so the planner sees constants
+    // and picks the GIN indexes on search_vector and lower(name)
+    private static final String MATCH = "(p.search_vector @@ to_tsquery('simple', ?) OR ? <% lower(p.name))";
+    private static final String SCORE = "ts_rank_cd(p.search_vector, to_tsquery('simple', ?)) "
+            + "+ word_similarity(?, lower(p.name))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductSearchOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<SearchHit> searchRanked(SearchCriteria criteria, long offset, int limit) {
+        List<Object> args = new ArrayList<>();
+        addQuery(args, criteria);
+        String sql = "SELECT p.id, " + SCORE + " AS score FROM products p WHERE "
+                + where(criteria, args, true, true)
+                + " ORDER BY score DESC, p.id LIMIT ? OFFSET ?";
+        args.add(limit);
+        args.add(offset);
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new SearchHit(rs.getObject("id", UUID.class), rs.getDouble("score")),
+                args.toArray());
+    }
+
+    @Override
+    public long countMatches(SearchCriteria criteria) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT count(*) FROM products p WHERE " + where(criteria, args, true, true);
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, args.toArray());
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public Map<String, Long> categoryFacets(SearchCriteria criteria, int limit) {
+        return facet("category", criteria, false, true, limit);
+    }
+
+    @Override
+    public Map<String, Long> brandFacets(SearchCriteria criteria, int limit) {
+        return facet("brand", criteria, true, false, limit);
+    }
+
+    // column is one of the fixed names above, never user input
+    private Map<String, Long> facet(String column, SearchCriteria criteria, boolean filterCategory,
+            boolean filterBrand, int limit) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT p." + column + " AS value, count(*) AS matches FROM products p WHERE "
+                + where(criteria, args, filterCategory, filterBrand)
+                + " AND p." + column + " IS NOT NULL"
+                + " GROUP BY p." + column + " ORDER BY matches DESC, value LIMIT ?";
+        args.add(limit);
+
+        Map<String, Long> facets = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> facets.put(rs.getString("value"), rs.getLong("matches")),
+                args.toArray());
+        return facets;
+    }
+
+    private String where(SearchCriteria criteria, List<Object> args, boolean filterCategory, boolean filterBrand) {
+        StringBuilder where = new StringBuilder(MATCH);
+        addQuery(args, criteria);
+        if (filterCategory && criteria.category() != null) {
+            where.append(" AND p.category = ?");
+            args.add(criteria.category());
+        }
+        if (filterBrand && criteria.brand() != null) {
+            where.append(" AND p.brand = ?");
+            args.add(criteria.brand());
+        }
+        if (criteria.supplierId() != null) {
+            where.append(" AND p.supplier_id = ?");
+            args.add(criteria.supplierId());
+        }
+        return where.toString();
+    }
+
+    // Binds the tsquery and the plain text, in that order, for one use of MATCH or SCORE.
+    // Every term is matched as a prefix so results update while the user is still typing.
+    private static void addQuery(List<Object> args, SearchCriteria criteria) {
+        args.add(criteria.terms().stream().map(term -> term + ":*").collect(Collectors.joining(" & ")));
+        args.add(String.join(" ", criteria.terms()));
+    }
+}
@@ -6,7 +6,9 @@ import Commerce360.entity.Store;
 import Commerce360.entity.Supplier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,15 +19,20 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface PurchaseOrderRepository extends JpaRepository<PurchaseOrder, UUID> {
+public interface PurchaseOrderRepository extends JpaRepository<PurchaseOrder, UUID>, JpaSpecificationExecutor<PurchaseOrder> {
     Optional<PurchaseOrder> findByOrderNumber(String orderNumber);
 
+    // Listings fetch the store and supplier with the page; items are batch-loaded per page
+    @EntityGraph(attributePaths = { "store", "supplier.user" })
     Page<PurchaseOrder> findByStore(Store store, Pageable pageable);
 
+    @EntityGraph(attributePaths = { "store", "supplier.user" })
     Page<PurchaseOrder> findBySupplier(Supplier supplier, Pageable pageable);
 
+    @EntityGraph(attributePaths = { "store", "supplier.user" })
     Page<PurchaseOrder> findByStoreAndStatus(Store store, PurchaseOrderStatus status, Pageable pageable);
 
+    @EntityGraph(attributePaths = { "store", "supplier.user" })
     Page<PurchaseOrder> findBySupplierAndStatus(Supplier supplier, PurchaseOrderStatus status, Pageable pageable);
 
     @Query("SELECT po FROM PurchaseOrder po WHERE po.store = :store AND po.orderDate BETWEEN :startDate AND :endDate")
@@ -0,0 +1,40 @@
+package Commerce360.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import Commerce360.entity.RefreshTokenFamily;
+
+import java.time.Instant;
+
+@Repository
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, String> {
+
+    // Compare-and-set on the current token id; 0 means the family is unknown, expired or was rotated already
+    @Modifying
+    @Query("UPDATE RefreshTokenFamily f SET f.currentTokenId = :nextTokenId, f.expiresAt = :expiresAt "
+            + "WHERE f.familyId = :familyId AND f.currentTokenId = :presentedTokenId AND f.expiresAt > :now")
+    int rotate(@Param("familyId") String familyId, @Param("presentedTokenId") String presentedTokenId,
+            @Param("nextTokenId") String nextTokenId, @Param("expiresAt") Instant expiresAt,
+            @Param("now") Instant now);
+
+    // Returns 1 when a live family was removed, 0 when it was already gone or had expired
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.familyId = :familyId AND f.expiresAt > :now")
+    int deleteLive(@Param("familyId") String familyId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.email = :email")
+    int deleteByEmail(@Param("email") String email);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,38 @@
+package Commerce360.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import Commerce360.entity.SchedulerLease;
+
+// Plain JPQL so the lease works on PostgreSQL and on an embedded database alike. Every timestamp comes from
+// the database clock, so clock skew between replicas cannot make two nodes think they hold the same lease.
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // Takes the lease when it has expired or is already ours; 0 means another node holds it
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.leaseUntil = local datetime + (:leaseSeconds) second, "
+            + "l.acquiredAt = local datetime "
+            + "WHERE l.name = :name AND (l.leaseUntil < local datetime OR l.owner = :owner)")
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner,
+            @Param("leaseSeconds") long leaseSeconds);
+
+    // First run of a job anywhere; a racing node's insert fails on the primary key
+    @Modifying
+    @Query("INSERT INTO SchedulerLease (name, owner, leaseUntil, acquiredAt) "
+            + "VALUES (:name, :owner, local datetime + (:leaseSeconds) second, local datetime)")
+    int create(@Param("name") String name, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.leaseUntil = local datetime + (:leaseSeconds) second "
+            + "WHERE l.name = :name AND l.owner = :owner")
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.leaseUntil = local datetime WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
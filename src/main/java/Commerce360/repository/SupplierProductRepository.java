@@ -5,6 +5,7 @@ import Commerce360.entity.Supplier;
 import Commerce360.entity.SupplierProduct;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,7 +17,10 @@ import java.util.UUID;
 
 @Repository
 public interface SupplierProductRepository extends JpaRepository<SupplierProduct, UUID> {
+    // Listings fetch the supplier and product each row is shown with
+    @EntityGraph(attributePaths = { "supplier.user", "product" })
     Page<SupplierProduct> findBySupplier(Supplier supplier, Pageable pageable);
+    @EntityGraph(attributePaths = { "supplier.user", "product" })
     Page<SupplierProduct> findBySupplierAndIsActive(Supplier supplier, Boolean isActive, Pageable pageable);
     
     Optional<SupplierProduct> findBySupplierAndProduct(Supplier supplier, Product product);
@@ -24,9 +28,11 @@ public interface SupplierProductRepository extends JpaRepository<SupplierProduct
     
     List<SupplierProduct> findByProduct(Product product);
     
+    @EntityGraph(attributePaths = { "supplier.user", "product" })
     @Query("SELECT sp FROM SupplierProduct sp WHERE sp.supplier = :supplier AND sp.isActive = true AND sp.stockAvailable > 0")
     Page<SupplierProduct> findAvailableProductsBySupplier(@Param("supplier") Supplier supplier, Pageable pageable);
     
+    @EntityGraph(attributePaths = { "supplier.user", "product" })
     @Query("SELECT sp FROM SupplierProduct sp WHERE sp.isActive = true AND sp.stockAvailable > 0")
     Page<SupplierProduct> findAllAvailableProducts(Pageable pageable);
 }
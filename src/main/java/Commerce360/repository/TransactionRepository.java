@@ -4,6 +4,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import Commerce360.entity.Transaction;
@@ -23,6 +25,42 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>,
 
     List<Transaction> findByStoreAndTransactionDateBetween(Store store, LocalDateTime startDate, LocalDateTime endDate);
 
+    // Aggregate-only report queries. The range starts at startDate (inclusive) and ends at endDate,
+    // which is included only when endInclusive is true, so adjacent ranges never double count.
+    @Query("SELECT t.type AS type, COUNT(t) AS transactionCount, SUM(t.quantity) AS totalQuantity, "
+            + "SUM(t.totalAmount) AS totalAmount, SUM(t.unitPrice) AS unitPriceSum "
+            + "FROM Transaction t WHERE t.store = :store AND t.transactionDate >= :startDate "
+            + "AND (t.transactionDate < :endDate OR (:endInclusive = true AND t.transactionDate = :endDate)) "
+            + "GROUP BY t.type")
+    List<TransactionTypeTotals> sumByType(@Param("store") Store store,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("endInclusive") boolean endInclusive);
+
+    @Query("SELECT p.name AS name, SUM(t.quantity) AS totalQuantity, SUM(t.totalAmount) AS totalAmount "
+            + "FROM Transaction t JOIN t.product p WHERE t.store = :store AND t.type = :type "
+            + "AND t.transactionDate >= :startDate "
+            + "AND (t.transactionDate < :endDate OR (:endInclusive = true AND t.transactionDate = :endDate)) "
+            + "GROUP BY p.name ORDER BY SUM(t.quantity) DESC")
+    List<NamedTransactionTotals> topProducts(@Param("store") Store store,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("endInclusive") boolean endInclusive,
+            Pageable limit);
+
+    @Query("SELECT s.companyName AS name, SUM(t.quantity) AS totalQuantity, SUM(t.totalAmount) AS totalAmount "
+            + "FROM Transaction t JOIN t.supplier s WHERE t.store = :store AND t.type = :type "
+            + "AND t.transactionDate >= :startDate "
+            + "AND (t.transactionDate < :endDate OR (:endInclusive = true AND t.transactionDate = :endDate)) "
+            + "GROUP BY s.companyName ORDER BY SUM(t.totalAmount) DESC")
+    List<NamedTransactionTotals> topSuppliers(@Param("store") Store store,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("endInclusive") boolean endInclusive,
+            Pageable limit);
+
     List<Transaction> findByProduct(Product product);
 
     Page<Transaction> findByStoreAndTypeAndTransactionDateBetween(
@@ -0,0 +1,16 @@
+package Commerce360.repository;
+
+import Commerce360.entity.TransactionType;
+
+// Aggregate projection shared by the transaction and daily rollup report queries
+public interface TransactionTypeTotals {
+    TransactionType getType();
+
+    Long getTransactionCount();
+
+    Long getTotalQuantity();
+
+    Double getTotalAmount();
+
+    Double getUnitPriceSum();
+}
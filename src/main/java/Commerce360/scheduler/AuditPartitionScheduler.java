@@ -0,0 +1,59 @@
+package Commerce360.scheduler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import Commerce360.service.AuditPartitionService;
+import Commerce360.service.SchedulerLeaseService;
+
+import java.time.Duration;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class AuditPartitionScheduler {
+
+    @Autowired
+    private final AuditPartitionService auditPartitionService;
+
+    @Autowired
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    private static final String PARTITION_JOB = "audit.partitions";
+    private static final Duration PARTITION_LEASE = Duration.ofMinutes(10);
+
+    public AuditPartitionScheduler(AuditPartitionService auditPartitionService,
+            SchedulerLeaseService schedulerLeaseService) {
+        this.auditPartitionService = auditPartitionService;
+        this.schedulerLeaseService = schedulerLeaseService;
+    }
+
+    // Partitions must exist before the first audit write of a new month, so check at startup as well
+    @EventListener(ApplicationReadyEvent.class)
+    public void preparePartitions() {
+        try {
+            schedulerLeaseService.runExclusively(PARTITION_JOB, PARTITION_LEASE,
+                    auditPartitionService::preparePartitions);
+        } catch (Exception e) {
+            log.error("Error preparing audit log partitions: {}", e.getMessage(), e);
+        }
+    }
+
+    // Run every day at 00:30; creates upcoming partitions and drops the ones past retention
+    @Scheduled(cron = "0 30 0 * * ?")
+    public void maintainPartitions() {
+        try {
+            schedulerLeaseService.runExclusively(PARTITION_JOB, PARTITION_LEASE, () -> {
+                auditPartitionService.preparePartitions();
+                int dropped = auditPartitionService.dropExpiredPartitions();
+                log.info("Audit partition maintenance completed: {} expired partitions dropped", dropped);
+            });
+        } catch (Exception e) {
+            log.error("Error maintaining audit log partitions: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -4,7 +4,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import Commerce360.service.InventoryService;
+import Commerce360.service.ExpiredStockPurgeService;
+import Commerce360.service.SchedulerLeaseService;
+
+import java.time.Duration;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -13,19 +16,29 @@ import lombok.extern.slf4j.Slf4j;
 public class InventoryScheduler {
 
     @Autowired
-    private final InventoryService inventoryService;
+    private final ExpiredStockPurgeService expiredStockPurgeService;
+
+    @Autowired
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    private static final String EXPIRED_STOCK_JOB = "inventory.remove-expired-stock";
+    private static final Duration EXPIRED_STOCK_LEASE = Duration.ofMinutes(5);
 
-    public InventoryScheduler(InventoryService inventoryService) {
-        this.inventoryService = inventoryService;
+    public InventoryScheduler(ExpiredStockPurgeService expiredStockPurgeService,
+            SchedulerLeaseService schedulerLeaseService) {
+        this.expiredStockPurgeService = expiredStockPurgeService;
+        this.schedulerLeaseService = schedulerLeaseService;
     }
 
-    // Run every day at midnight
+    // Run every day at midnight; every replica fires, only the lease holder does the work
     @Scheduled(cron = "0 0 0 * * ?")
     public void removeExpiredStock() {
-        log.info("Starting scheduled task to remove expired stock");
         try {
-            inventoryService.removeExpiredStock();
-            log.info("Successfully completed removing expired stock");
+            schedulerLeaseService.runExclusively(EXPIRED_STOCK_JOB, EXPIRED_STOCK_LEASE, () -> {
+                log.info("Starting scheduled task to remove expired stock");
+                long removed = expiredStockPurgeService.purgeExpiredStock();
+                log.info("Successfully completed removing expired stock: {} rows removed", removed);
+            });
         } catch (Exception e) {
             log.error("Error removing expired stock: {}", e.getMessage(), e);
         }
@@ -0,0 +1,18 @@
+package Commerce360.security;
+
+import Commerce360.entity.ApprovalStatus;
+import Commerce360.entity.UserRole;
+
+import java.security.Principal;
+import java.util.UUID;
+
+// Principal stored in the SecurityContext for JWT requests. getName() stays the email so
+// authentication.getName() keeps working; the id is available without a user lookup.
+public record AuthenticatedUser(UUID id, String email, UserRole role, ApprovalStatus approvalStatus)
+        implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
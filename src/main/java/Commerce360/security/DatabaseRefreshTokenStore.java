@@ -0,0 +1,87 @@
+package Commerce360.security;
+
+import Commerce360.entity.ApprovalStatus;
+import Commerce360.entity.RefreshTokenFamily;
+import Commerce360.repository.RefreshTokenFamilyRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+// Refresh token registry in the shared database, opted into with security.refresh-tokens.store=database for
+// replicated deployments without Redis. Every refresh costs a SELECT and a conditional UPDATE, so the Redis
+// store is preferred. Rotation is one conditional UPDATE, so two replicas racing on the same token cannot
+// both rotate it.
+@Component
+@ConditionalOnProperty(name = "security.refresh-tokens.store", havingValue = "database")
+public class DatabaseRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenFamilyRepository familyRepository;
+
+    public DatabaseRefreshTokenStore(RefreshTokenFamilyRepository familyRepository) {
+        this.familyRepository = familyRepository;
+    }
+
+    @Override
+    @Transactional
+    public void save(TokenFamily family) {
+        AuthenticatedUser user = family.user();
+        familyRepository.save(RefreshTokenFamily.builder()
+                .familyId(family.familyId())
+                .userId(user.id())
+                .email(user.email())
+                .role(user.role())
+                .currentTokenId(family.currentTokenId())
+                .expiresAt(family.expiresAt())
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TokenFamily> find(String familyId) {
+        Instant now = Instant.now();
+        return familyRepository.findById(familyId)
+                .filter(family -> family.getExpiresAt().isAfter(now))
+                .map(family -> new TokenFamily(family.getFamilyId(),
+                        new AuthenticatedUser(family.getUserId(), family.getEmail(), family.getRole(),
+                                ApprovalStatus.APPROVED),
+                        family.getCurrentTokenId(), family.getExpiresAt()));
+    }
+
+    @Override
+    @Transactional
+    public RotationResult rotate(String familyId, String presentedTokenId, String nextTokenId, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (familyRepository.rotate(familyId, presentedTokenId, nextTokenId, expiresAt, now) > 0) {
+            return RotationResult.ROTATED;
+        }
+        // A live family whose current id differs: the presented token was already rotated away
+        if (familyRepository.deleteLive(familyId, now) > 0) {
+            return RotationResult.REUSED;
+        }
+        familyRepository.deleteByFamilyId(familyId);
+        return RotationResult.UNKNOWN;
+    }
+
+    @Override
+    @Transactional
+    public void revokeFamily(String familyId) {
+        familyRepository.deleteByFamilyId(familyId);
+    }
+
+    @Override
+    @Transactional
+    public void revokeUser(String username) {
+        familyRepository.deleteByEmail(username);
+    }
+
+    // Every replica runs this; the DELETE is idempotent and uses the expires_at index
+    @Scheduled(fixedDelayString = "${security.refresh-tokens.eviction-interval:60000}")
+    @Transactional
+    public void evictExpired() {
+        familyRepository.deleteExpired(Instant.now());
+    }
+}
@@ -0,0 +1,92 @@
+package Commerce360.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Single-node refresh token registry and the default. Tokens only work on the node that issued them and are
+// lost on restart, so replicated deployments set security.refresh-tokens.store=redis.
+@Component
+@ConditionalOnProperty(name = "security.refresh-tokens.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, TokenFamily> families = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> familiesByUser = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(TokenFamily family) {
+        families.put(family.familyId(), family);
+        familiesByUser.computeIfAbsent(family.user().email(), email -> ConcurrentHashMap.newKeySet())
+                .add(family.familyId());
+    }
+
+    @Override
+    public Optional<TokenFamily> find(String familyId) {
+        TokenFamily family = families.get(familyId);
+        if (family == null || family.expiresAt().isBefore(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(family);
+    }
+
+    @Override
+    public RotationResult rotate(String familyId, String presentedTokenId, String nextTokenId, Instant expiresAt) {
+        RotationResult[] result = { RotationResult.UNKNOWN };
+        TokenFamily[] dropped = { null };
+        Instant now = Instant.now();
+        families.computeIfPresent(familyId, (id, family) -> {
+            if (family.expiresAt().isBefore(now)) {
+                dropped[0] = family;
+                return null;
+            }
+            if (!family.currentTokenId().equals(presentedTokenId)) {
+                result[0] = RotationResult.REUSED;
+                dropped[0] = family;
+                return null;
+            }
+            result[0] = RotationResult.ROTATED;
+            return new TokenFamily(id, family.user(), nextTokenId, expiresAt);
+        });
+        if (dropped[0] != null) {
+            forget(dropped[0]);
+        }
+        return result[0];
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        TokenFamily family = families.remove(familyId);
+        if (family != null) {
+            forget(family);
+        }
+    }
+
+    @Override
+    public void revokeUser(String username) {
+        Set<String> familyIds = familiesByUser.remove(username);
+        if (familyIds != null) {
+            familyIds.forEach(families::remove);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-tokens.eviction-interval:60000}")
+    public void evictExpired() {
+        Instant now = Instant.now();
+        families.values().removeIf(family -> family.expiresAt().isBefore(now));
+        familiesByUser.values().forEach(familyIds -> familyIds.removeIf(id -> !families.containsKey(id)));
+        familiesByUser.values().removeIf(Set::isEmpty);
+    }
+
+    private void forget(TokenFamily family) {
+        Set<String> familyIds = familiesByUser.get(family.user().email());
+        if (familyIds != null) {
+            familyIds.remove(family.familyId());
+        }
+    }
+}
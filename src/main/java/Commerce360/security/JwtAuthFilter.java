@@ -8,13 +8,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import Commerce360.entity.ApprovalStatus;
+import Commerce360.entity.UserRole;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 
 @Component
@@ -26,14 +31,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     @Autowired
     @Lazy
-    private UserDetailsServiceImpl userDetailsService;
+    private PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
         try {
             final String authHeader = request.getHeader("Authorization");
-            logger.debug("Auth header: {}", authHeader);
 
             if (authHeader == null || !authHeader.startsWith("Bearer ")) {
                 logger.debug("No valid auth header found");
@@ -50,17 +54,21 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             }
 
             try {
-                String email = jwtUtil.extractUsername(token);
+                // One parse verifies the signature and expiry; everything below reads the parsed claims.
+                // RateLimitFilter may already have verified this token to key its bucket by user.
+                Claims claims = request.getAttribute(JwtUtil.CLAIMS_ATTRIBUTE) instanceof Claims verified
+                        ? verified
+                        : jwtUtil.parseClaims(token);
+                String email = claims.getSubject();
                 logger.debug("Extracted email from token: {}", email);
 
                 if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                    logger.debug("Loaded user details: {}", userDetails);
+                    AuthenticatedUser principal = resolvePrincipal(claims);
 
-                    if (jwtUtil.validateToken(token, userDetails)) {
-                        logger.debug("Token is valid");
+                    if (principal != null) {
                         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities());
+                                principal, null,
+                                List.of(new SimpleGrantedAuthority("ROLE_" + principal.role().name())));
                         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                         SecurityContextHolder.getContext().setAuthentication(authToken);
                         logger.debug("Set authentication in security context");
@@ -69,9 +77,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                     }
                 }
             } catch (ExpiredJwtException e) {
-                logger.warn("Token expired: {}", e.getMessage());
+                logger.debug("Token expired: {}", e.getMessage());
                 // If it's an access token, we can let the client know they need to refresh
-                if (!jwtUtil.isRefreshToken(token)) {
+                if (!"refresh".equals(e.getClaims().get("type", String.class))) {
                     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                     response.getWriter().write("Token expired. Please refresh your token.");
                     return;
@@ -84,4 +92,23 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             chain.doFilter(request, response);
         }
     }
+
+    // Access tokens carry uid and role, so they authenticate without touching the database.
+    // Tokens issued before the uid claim existed fall back to the principal cache.
+    private AuthenticatedUser resolvePrincipal(Claims claims) {
+        if (!"access".equals(claims.get("type", String.class))) {
+            return null;
+        }
+
+        String userId = claims.get("uid", String.class);
+        String role = claims.get("role", String.class);
+        if (userId != null && role != null) {
+            return new AuthenticatedUser(UUID.fromString(userId), claims.getSubject(), UserRole.valueOf(role),
+                    ApprovalStatus.APPROVED);
+        }
+
+        return principalCache.get(claims.getSubject())
+                .filter(user -> user.approvalStatus() == ApprovalStatus.APPROVED)
+                .orElse(null);
+    }
 }
@@ -0,0 +1,160 @@
+package Commerce360.security;
+
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyStore;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// HMAC signing keys identified by kid. Every replica loads the same keys, so any node validates any token
+// and tokens survive restarts. Keys come from security.jwt.keys ("kid:base64secret,...") and/or a PKCS12
+// keystore of secret-key entries (alias = kid). The keystore is re-read on a schedule: adding a key to it
+// and later removing the old one rotates keys without a restart, while tokens signed by any key still
+// in the ring keep validating. A new keystore key is only used for signing once it is older than one
+// reload interval, so every replica already accepts it by then.
+@Component
+public class JwtKeyRing {
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private record KeySet(Map<String, SecretKey> keys, String activeKid) {
+    }
+
+    private final String configuredKeys;
+    private final String configuredActiveKid;
+    private final String keystorePath;
+    private final char[] keystorePassword;
+    private final long reloadIntervalMillis;
+
+    private volatile KeySet keySet;
+
+    public JwtKeyRing(@Value("${security.jwt.keys:}") String configuredKeys,
+            @Value("${security.jwt.active-kid:}") String configuredActiveKid,
+            @Value("${security.jwt.keystore.path:}") String keystorePath,
+            @Value("${security.jwt.keystore.password:}") String keystorePassword,
+            @Value("${security.jwt.keystore.reload-interval:300000}") long reloadIntervalMillis) {
+        this.configuredKeys = configuredKeys;
+        this.configuredActiveKid = configuredActiveKid;
+        this.keystorePath = keystorePath;
+        this.keystorePassword = keystorePassword.toCharArray();
+        this.reloadIntervalMillis = reloadIntervalMillis;
+        this.keySet = load();
+    }
+
+    public String getActiveKid() {
+        return keySet.activeKid();
+    }
+
+    public SecretKey getActiveKey() {
+        KeySet current = keySet;
+        return current.keys().get(current.activeKid());
+    }
+
+    // Null when the kid is unknown, e.g. a key that has been rotated out
+    public SecretKey getKey(String kid) {
+        KeySet current = keySet;
+        return kid == null ? current.keys().get(current.activeKid()) : current.keys().get(kid);
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.keystore.reload-interval:300000}",
+            initialDelayString = "${security.jwt.keystore.reload-interval:300000}")
+    public void reload() {
+        if (keystorePath.isBlank()) {
+            return;
+        }
+        try {
+            KeySet reloaded = load();
+            if (!reloaded.equals(keySet)) {
+                logger.info("JWT key ring reloaded: {} keys, active kid {}", reloaded.keys().size(),
+                        reloaded.activeKid());
+            }
+            keySet = reloaded;
+        } catch (Exception e) {
+            // Keep signing with the keys we have
+            logger.error("Failed to reload JWT key ring: {}", e.getMessage());
+        }
+    }
+
+    private KeySet load() {
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        String newestKid = null;
+
+        if (!configuredKeys.isBlank()) {
+            for (String entry : configuredKeys.split(",")) {
+                String[] parts = entry.trim().split(":", 2);
+                if (parts.length != 2 || parts[0].isBlank()) {
+                    throw new IllegalStateException("security.jwt.keys entries must be kid:base64secret");
+                }
+                keys.put(parts[0].trim(), Keys.hmacShaKeyFor(Base64.getDecoder().decode(parts[1].trim())));
+                newestKid = parts[0].trim();
+            }
+        }
+
+        if (!keystorePath.isBlank()) {
+            newestKid = loadKeystore(keys, newestKid);
+        }
+
+        if (keys.isEmpty()) {
+            // Development fallback: tokens do not survive a restart and are only valid on this node
+            logger.warn("No JWT keys configured; using an ephemeral signing key");
+            keys.put("ephemeral", Keys.secretKeyFor(io.jsonwebtoken.SignatureAlgorithm.HS256));
+            newestKid = "ephemeral";
+        }
+
+        String activeKid = configuredActiveKid.isBlank() ? newestKid : configuredActiveKid;
+        if (!keys.containsKey(activeKid)) {
+            throw new IllegalStateException("Active JWT kid " + activeKid + " is not in the key ring");
+        }
+        return new KeySet(Collections.unmodifiableMap(keys), activeKid);
+    }
+
+    // Returns the kid of the newest keystore entry that every replica has had time to load; the newest
+    // entry overall while none is old enough, and the previous candidate if the keystore has no keys
+    private String loadKeystore(Map<String, SecretKey> keys, String newestKid) {
+        try (InputStream in = Files.newInputStream(Path.of(keystorePath))) {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(in, keystorePassword);
+
+            Date activationCutoff = new Date(System.currentTimeMillis() - reloadIntervalMillis);
+            Date newestDate = null;
+            Date newestActiveDate = null;
+            String newestAlias = null;
+            String newestActiveAlias = null;
+            for (String alias : Collections.list(keyStore.aliases())) {
+                Key key = keyStore.getKey(alias, keystorePassword);
+                if (!(key instanceof SecretKey)) {
+                    continue;
+                }
+                keys.put(alias, Keys.hmacShaKeyFor(key.getEncoded()));
+                Date created = keyStore.getCreationDate(alias);
+                if (newestAlias == null || (created != null && (newestDate == null || created.after(newestDate)))) {
+                    newestDate = created;
+                    newestAlias = alias;
+                }
+                if (created != null && !created.after(activationCutoff)
+                        && (newestActiveAlias == null || created.after(newestActiveDate))) {
+                    newestActiveDate = created;
+                    newestActiveAlias = alias;
+                }
+            }
+            if (newestActiveAlias != null) {
+                return newestActiveAlias;
+            }
+            return newestAlias != null ? newestAlias : newestKid;
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot load JWT keystore " + keystorePath + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package Commerce360.security;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.slf4j.Logger;
@@ -10,41 +9,75 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
     private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
-    private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final JwtKeyRing keyRing;
+    // Thread-safe and reusable; building one per parse was most of the per-request cost.
+    // The verification key is picked per token from its kid header.
+    private final JwtParser parser;
     private static final long ACCESS_TOKEN_VALIDITY = 15 * 60 * 1000; // 5 minutes
-    private static final long REFRESH_TOKEN_VALIDITY = 7 * 24 * 60 * 60 * 1000; // 7 days
+    static final long REFRESH_TOKEN_VALIDITY = 7 * 24 * 60 * 60 * 1000; // 7 days
+    // Request attribute holding claims already verified earlier in the filter chain
+    public static final String CLAIMS_ATTRIBUTE = JwtUtil.class.getName() + ".claims";
 
-    public String generateAccessToken(UserDetails userDetails) {
-        Map<String, Object> claims = new HashMap<>();
+    public JwtUtil(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = keyRing.getKey(header.getKeyId());
+                        if (key == null) {
+                            throw new UnsupportedJwtException("Unknown signing key id: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
+    // The role and user id claims let JwtAuthFilter authenticate access tokens without a user lookup
+    public String generateAccessToken(UserDetails userDetails, UUID userId) {
         String authorities = userDetails.getAuthorities().toString();
         String role = authorities.replaceAll("\\[|\\]|ROLE_", "");
-        logger.info("Generating access token for user: {} with role: {}", userDetails.getUsername(), role);
+        return generateAccessToken(userDetails.getUsername(), role, userId);
+    }
+
+    public String generateAccessToken(String username, String role, UUID userId) {
+        Map<String, Object> claims = new HashMap<>();
+        logger.info("Generating access token for user: {} with role: {}", username, role);
         claims.put("role", role);
         claims.put("type", "access");
-        return createToken(claims, userDetails.getUsername(), ACCESS_TOKEN_VALIDITY);
+        if (userId != null) {
+            claims.put("uid", userId.toString());
+        }
+        return createToken(claims, username, ACCESS_TOKEN_VALIDITY);
     }
 
-    public String generateRefreshToken(UserDetails userDetails) {
+    // tokenId (jti) and familyId (fid) are tracked by RefreshTokenStore for rotation and reuse detection
+    public String generateRefreshToken(String username, String familyId, String tokenId) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("type", "refresh");
-        logger.info("Generating refresh token for user: {}", userDetails.getUsername());
-        return createToken(claims, userDetails.getUsername(), REFRESH_TOKEN_VALIDITY);
+        claims.put("fid", familyId);
+        claims.put(Claims.ID, tokenId);
+        logger.info("Generating refresh token for user: {}", username);
+        return createToken(claims, username, REFRESH_TOKEN_VALIDITY);
     }
 
     private String createToken(Map<String, Object> claims, String subject, long validity) {
         String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid())
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + validity))
-                .signWith(key)
+                .signWith(keyRing.getActiveKey())
                 .compact();
-        logger.info("Generated token: {}", token);
+        logger.debug("Generated {} token for user: {}", claims.get("type"), subject);
         return token;
     }
 
@@ -65,16 +98,17 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        logger.info("Extracted claims from token: {}", claims);
+    // Verifies the signature and expiry once; throws ExpiredJwtException or JwtException on failure
+    public Claims parseClaims(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        logger.trace("Extracted claims from token: {}", claims);
         return claims;
     }
 
+    private Claims extractAllClaims(String token) {
+        return parseClaims(token);
+    }
+
     private Boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
@@ -82,7 +116,14 @@ public class JwtUtil {
     public Boolean validateToken(String token, UserDetails userDetails) {
         final String username = extractUsername(token);
         boolean isValid = (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-        logger.info("Validating token for user: {}, isValid: {}", username, isValid);
+        logger.debug("Validating token for user: {}, isValid: {}", username, isValid);
+        return isValid;
+    }
+
+    public Boolean validateToken(String token, String expectedUsername) {
+        final String username = extractUsername(token);
+        boolean isValid = (username.equals(expectedUsername) && !isTokenExpired(token));
+        logger.debug("Validating token for user: {}, isValid: {}", username, isValid);
         return isValid;
     }
 
@@ -0,0 +1,76 @@
+package Commerce360.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import Commerce360.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Bounded, TTL-based cache of id/role/approval status keyed by email, so authenticated requests do not
+// query the users table. UserService invalidates entries whenever those fields change.
+@Component
+public class PrincipalCache {
+
+    private record Entry(AuthenticatedUser principal, long expiresAtNanos) {
+    }
+
+    private final UserRepository userRepository;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public PrincipalCache(UserRepository userRepository,
+            @Value("${security.principal-cache.ttl:PT5M}") Duration ttl,
+            @Value("${security.principal-cache.max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public Optional<AuthenticatedUser> get(String email) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(email);
+        if (entry != null && now - entry.expiresAtNanos < 0) {
+            return Optional.of(entry.principal);
+        }
+
+        Optional<AuthenticatedUser> loaded = userRepository.findByEmail(email)
+                .map(user -> new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole(),
+                        user.getApprovalStatus()));
+        if (loaded.isPresent()) {
+            makeRoom(now);
+            entries.put(email, new Entry(loaded.get(), now + ttlNanos));
+        } else {
+            entries.remove(email);
+        }
+        return loaded;
+    }
+
+    public void invalidate(String email) {
+        if (email != null) {
+            entries.remove(email);
+        }
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    // Drops expired entries first; if the cache is still full an arbitrary entry goes
+    private void makeRoom(long now) {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        entries.values().removeIf(entry -> now - entry.expiresAtNanos >= 0);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package Commerce360.security;
+
+import Commerce360.entity.ApprovalStatus;
+import Commerce360.entity.UserRole;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+// Refresh token registry in Redis, shared by all replicas without touching the database. Enabled with
+// security.refresh-tokens.store=redis. Each family is a hash that Redis expires with its current token, and
+// each user has a set of family ids for revokeUser, kept alive as long as the user's longest-lived family.
+// save and rotate are single Lua scripts, so two replicas racing on the same token cannot both rotate it.
+@Component
+@ConditionalOnProperty(name = "security.refresh-tokens.store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    static final String FAMILY_PREFIX = "refresh:family:";
+    static final String USER_PREFIX = "refresh:user:";
+
+    // Adds ARGV[1] to the set userKey and extends the set to live until at least epoch second ARGV[2]
+    private static final String TRACK_FAMILY = "redis.call('SADD', userKey, ARGV[1]) "
+            + "local remaining = tonumber(ARGV[2]) - tonumber(redis.call('TIME')[1]) "
+            + "if redis.call('TTL', userKey) < remaining then redis.call('EXPIRE', userKey, remaining) end ";
+
+    // KEYS[1] family, KEYS[2] user set. ARGV: family id, expiry epoch seconds, user id, email, role, token id
+    private static final DefaultRedisScript<Long> SAVE = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], 'userId', ARGV[3], 'email', ARGV[4], 'role', ARGV[5], "
+                    + "'current', ARGV[6], 'expiresAt', ARGV[2]) "
+                    + "redis.call('EXPIREAT', KEYS[1], ARGV[2]) "
+                    + "local userKey = KEYS[2] "
+                    + TRACK_FAMILY
+                    + "return 1",
+            Long.class);
+
+    // KEYS[1] family. ARGV: family id, expiry epoch seconds, presented id, next id, user set prefix.
+    // Returns 1 rotated, 0 reused (the family is deleted), -1 unknown or expired
+    private static final DefaultRedisScript<Long> ROTATE = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'current') "
+                    + "if not current then return -1 end "
+                    + "if current ~= ARGV[3] then redis.call('DEL', KEYS[1]) return 0 end "
+                    + "redis.call('HSET', KEYS[1], 'current', ARGV[4], 'expiresAt', ARGV[2]) "
+                    + "redis.call('EXPIREAT', KEYS[1], ARGV[2]) "
+                    + "local userKey = ARGV[5] .. redis.call('HGET', KEYS[1], 'email') "
+                    + TRACK_FAMILY
+                    + "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void save(TokenFamily family) {
+        AuthenticatedUser user = family.user();
+        redisTemplate.execute(SAVE, List.of(FAMILY_PREFIX + family.familyId(), USER_PREFIX + user.email()),
+                family.familyId(), Long.toString(family.expiresAt().getEpochSecond()), user.id().toString(),
+                user.email(), user.role().name(), family.currentTokenId());
+    }
+
+    @Override
+    public Optional<TokenFamily> find(String familyId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(FAMILY_PREFIX + familyId);
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        Instant expiresAt = Instant.ofEpochSecond(Long.parseLong((String) fields.get("expiresAt")));
+        if (expiresAt.isBefore(Instant.now())) {
+            return Optional.empty();
+        }
+        AuthenticatedUser user = new AuthenticatedUser(UUID.fromString((String) fields.get("userId")),
+                (String) fields.get("email"), UserRole.valueOf((String) fields.get("role")),
+                ApprovalStatus.APPROVED);
+        return Optional.of(new TokenFamily(familyId, user, (String) fields.get("current"), expiresAt));
+    }
+
+    @Override
+    public RotationResult rotate(String familyId, String presentedTokenId, String nextTokenId, Instant expiresAt) {
+        Long result = redisTemplate.execute(ROTATE, List.of(FAMILY_PREFIX + familyId), familyId,
+                Long.toString(expiresAt.getEpochSecond()), presentedTokenId, nextTokenId, USER_PREFIX);
+        if (result == null || result < 0) {
+            return RotationResult.UNKNOWN;
+        }
+        return result == 1 ? RotationResult.ROTATED : RotationResult.REUSED;
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        redisTemplate.delete(FAMILY_PREFIX + familyId);
+    }
+
+    @Override
+    public void revokeUser(String username) {
+        String userKey = USER_PREFIX + username;
+        Set<String> familyIds = redisTemplate.opsForSet().members(userKey);
+        if (familyIds != null && !familyIds.isEmpty()) {
+            redisTemplate.delete(familyIds.stream().map(id -> FAMILY_PREFIX + id).toList());
+        }
+        redisTemplate.delete(userKey);
+    }
+}
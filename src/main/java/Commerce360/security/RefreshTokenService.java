@@ -0,0 +1,73 @@
+package Commerce360.security;
+
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+// Issues and rotates refresh tokens against RefreshTokenStore. A refresh needs no users-table query: the
+// family remembers the principal it was issued for, and UserService revokes families when that changes.
+@Service
+public class RefreshTokenService {
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+
+    public RefreshTokenService(JwtUtil jwtUtil, RefreshTokenStore refreshTokenStore) {
+        this.jwtUtil = jwtUtil;
+        this.refreshTokenStore = refreshTokenStore;
+    }
+
+    public AuthResponse issue(AuthenticatedUser user) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        refreshTokenStore.save(new RefreshTokenStore.TokenFamily(familyId, user, tokenId, nextExpiry()));
+        return tokens(user, familyId, tokenId);
+    }
+
+    // Empty when the token is unknown, expired, revoked or replayed
+    public Optional<AuthResponse> refresh(String refreshToken) {
+        Claims claims = jwtUtil.parseClaims(refreshToken);
+        String familyId = claims.get("fid", String.class);
+        if (!"refresh".equals(claims.get("type", String.class)) || familyId == null || claims.getId() == null) {
+            return Optional.empty();
+        }
+
+        Optional<RefreshTokenStore.TokenFamily> family = refreshTokenStore.find(familyId);
+        if (family.isEmpty() || !family.get().user().email().equals(claims.getSubject())) {
+            return Optional.empty();
+        }
+
+        String nextTokenId = UUID.randomUUID().toString();
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate(familyId, claims.getId(), nextTokenId,
+                nextExpiry());
+        if (result == RefreshTokenStore.RotationResult.REUSED) {
+            logger.warn("Refresh token reuse detected for user {}; token family {} revoked",
+                    claims.getSubject(), familyId);
+        }
+        if (result != RefreshTokenStore.RotationResult.ROTATED) {
+            return Optional.empty();
+        }
+
+        return Optional.of(tokens(family.get().user(), familyId, nextTokenId));
+    }
+
+    public void revokeUser(String username) {
+        refreshTokenStore.revokeUser(username);
+    }
+
+    private AuthResponse tokens(AuthenticatedUser user, String familyId, String tokenId) {
+        String accessToken = jwtUtil.generateAccessToken(user.email(), user.role().name(), user.id());
+        String refreshToken = jwtUtil.generateRefreshToken(user.email(), familyId, tokenId);
+        return new AuthResponse(accessToken, refreshToken);
+    }
+
+    private static Instant nextExpiry() {
+        return Instant.now().plusMillis(JwtUtil.REFRESH_TOKEN_VALIDITY);
+    }
+}
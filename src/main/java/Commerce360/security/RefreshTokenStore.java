@@ -0,0 +1,28 @@
+package Commerce360.security;
+
+import java.time.Instant;
+import java.util.Optional;
+
+// Registry of issued refresh tokens. Each login starts a token family; every refresh rotates the family to a
+// new token id. Presenting a token id that is no longer current means the token was copied, so the whole
+// family is revoked. Implementations must make every operation O(1) and drop expired families themselves.
+public interface RefreshTokenStore {
+
+    enum RotationResult {
+        ROTATED, REUSED, UNKNOWN
+    }
+
+    record TokenFamily(String familyId, AuthenticatedUser user, String currentTokenId, Instant expiresAt) {
+    }
+
+    void save(TokenFamily family);
+
+    Optional<TokenFamily> find(String familyId);
+
+    // Atomically moves the family from presentedTokenId to nextTokenId; revokes the family on reuse
+    RotationResult rotate(String familyId, String presentedTokenId, String nextTokenId, Instant expiresAt);
+
+    void revokeFamily(String familyId);
+
+    void revokeUser(String username);
+}
@@ -6,6 +6,7 @@ import Commerce360.repository.UserRepository;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -14,30 +15,41 @@ import java.util.UUID;
 public class SecurityContextUtil {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
-    public SecurityContextUtil(UserRepository userRepository) {
+    public SecurityContextUtil(UserRepository userRepository, PrincipalCache principalCache) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
-    public Optional<User> getCurrentUser() {
+    public Optional<AuthenticatedUser> getCurrentPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.isAuthenticated()
                 && !"anonymousUser".equals(authentication.getName())) {
-            String email = authentication.getName();
-            return userRepository.findByEmail(email);
+            if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+                return Optional.of(principal);
+            }
+            return principalCache.get(authentication.getName());
         }
         return Optional.empty();
     }
 
+    // Inside a transaction this returns a lazy reference: using it as an association or reading its id
+    // costs no query, other fields are loaded on first access. Outside a transaction the row is read.
+    public Optional<User> getCurrentUser() {
+        return getCurrentPrincipal().map(principal -> TransactionSynchronizationManager.isActualTransactionActive()
+                ? userRepository.getReferenceById(principal.id())
+                : userRepository.findById(principal.id()).orElse(null));
+    }
+
     public UUID getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.isAuthenticated()
                 && !"anonymousUser".equals(authentication.getName())) {
-            String email = authentication.getName();
-            return userRepository.findByEmail(email)
-                    .map(User::getId)
+            return getCurrentPrincipal()
+                    .map(AuthenticatedUser::id)
                     .orElseThrow(() -> new RuntimeException("User not found in database"));
         }
         throw new RuntimeException("User not authenticated");
     }
-}
\ No newline at end of file
+}
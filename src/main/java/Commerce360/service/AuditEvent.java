@@ -0,0 +1,10 @@
+package Commerce360.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// An audit entry captured on the calling thread. Only ids are kept, so the writer thread never touches
+// entities or the request that produced the event.
+public record AuditEvent(UUID id, LocalDateTime timestamp, UUID userId, UUID storeId, String action,
+        String entityType, UUID entityId, String details, String ipAddress, String userAgent) {
+}
@@ -3,53 +3,79 @@ package Commerce360.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import Commerce360.dto.AuditLogDTO;
+import Commerce360.dto.CursorPage;
 import Commerce360.entity.AuditLog;
 import Commerce360.entity.Store;
 import Commerce360.entity.User;
 import Commerce360.repository.AuditLogRepository;
+import Commerce360.security.AuthenticatedUser;
 import Commerce360.security.SecurityContextUtil;
+import jakarta.servlet.http.HttpServletRequest;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 public class AuditLogService {
 
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("timestamp"), Sort.Order.desc("id"));
+
     @Autowired
     private final AuditLogRepository auditLogRepository;
 
     @Autowired
     private final SecurityContextUtil securityContextUtil;
 
-    public AuditLogService(AuditLogRepository auditLogRepository, SecurityContextUtil securityContextUtil) {
+    @Autowired
+    private final AuditLogWriter auditLogWriter;
+
+    public AuditLogService(AuditLogRepository auditLogRepository, SecurityContextUtil securityContextUtil,
+            AuditLogWriter auditLogWriter) {
         this.auditLogRepository = auditLogRepository;
         this.securityContextUtil = securityContextUtil;
+        this.auditLogWriter = auditLogWriter;
     }
 
-    @Transactional
+    // Audit writes are asynchronous: the event is captured here, on the request thread, and handed to
+    // AuditLogWriter once the caller's transaction commits, so a rolled-back change leaves no audit entry
+    // and an audit failure never rolls back the change
     public void logAction(String action, String entityType, UUID entityId, String details) {
-        User currentUser = securityContextUtil.getCurrentUser()
+        UUID userId = securityContextUtil.getCurrentPrincipal()
+                .map(AuthenticatedUser::id)
                 .orElseThrow(() -> new RuntimeException("No authenticated user found"));
 
-        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        String ipAddress = attributes != null ? attributes.getRequest().getRemoteAddr() : "unknown";
-        String userAgent = attributes != null ? attributes.getRequest().getHeader("User-Agent") : "unknown";
-
         // Store will be set by the specific logAction overload that includes store
         // parameter
-        Store userStore = null;
+        publish(capture(userId, null, action, entityType, entityId, details));
+    }
 
-        AuditLog auditLog = AuditLog.builder()
+    public void logAction(User user, Store store, String action, String entityType, UUID entityId, String details) {
+        publish(capture(user != null ? user.getId() : null, store != null ? store.getId() : null,
+                action, entityType, entityId, details));
+    }
+
+    // Builds an entry without saving it, so bulk callers can persist many rows in one JDBC batch
+    public AuditLog buildEntry(User user, Store store, String action, String entityType, UUID entityId,
+            String details) {
+        HttpServletRequest request = currentRequest();
+        String ipAddress = request != null ? request.getRemoteAddr() : "unknown";
+        String userAgent = request != null ? request.getHeader("User-Agent") : "unknown";
+        return AuditLog.builder()
                 .timestamp(LocalDateTime.now())
-                .user(currentUser)
-                .store(userStore)
+                .user(user)
+                .store(store)
                 .action(action)
                 .entityType(entityType)
                 .entityId(entityId)
@@ -57,62 +83,134 @@ public class AuditLogService {
                 .ipAddress(ipAddress)
                 .userAgent(userAgent)
                 .build();
-
-        auditLogRepository.save(auditLog);
     }
 
-    @Transactional
-    public void logAction(User user, Store store, String action, String entityType, UUID entityId, String details) {
-        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        String ipAddress = attributes != null ? attributes.getRequest().getRemoteAddr() : "unknown";
-        String userAgent = attributes != null ? attributes.getRequest().getHeader("User-Agent") : "unknown";
-        AuditLog auditLog = AuditLog.builder()
+    // Entry for work done without a signed-in user (scheduled jobs). There is no client, so ipAddress and
+    // userAgent stay empty.
+    public AuditLog buildSystemEntry(String principal, Store store, String action, String entityType, UUID entityId,
+            String details) {
+        return AuditLog.builder()
                 .timestamp(LocalDateTime.now())
-                .user(user)
+                .user(null)
                 .store(store)
                 .action(action)
                 .entityType(entityType)
                 .entityId(entityId)
                 .details(details)
-                .ipAddress(ipAddress)
-                .userAgent(userAgent)
+                .systemPrincipal(principal)
                 .build();
-        auditLogRepository.save(auditLog);
     }
 
+    // Synchronous on purpose: bulk callers need their audit rows in the same transaction as the change
+    @Transactional
+    public void logActions(List<AuditLog> auditLogs) {
+        auditLogRepository.saveAll(auditLogs);
+    }
+
+    private AuditEvent capture(UUID userId, UUID storeId, String action, String entityType, UUID entityId,
+            String details) {
+        HttpServletRequest request = currentRequest();
+        String ipAddress = request != null ? request.getRemoteAddr() : "unknown";
+        String userAgent = request != null ? request.getHeader("User-Agent") : "unknown";
+        return new AuditEvent(UUID.randomUUID(), LocalDateTime.now(), userId, storeId, action, entityType,
+                entityId, details, ipAddress, userAgent);
+    }
+
+    private void publish(AuditEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            auditLogWriter.submit(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                auditLogWriter.submit(event);
+            }
+        });
+    }
+
+    private static HttpServletRequest currentRequest() {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        return attributes != null ? attributes.getRequest() : null;
+    }
+
+    // Offset pages with a total count; kept for existing clients. Deep pages skip every earlier row, so new
+    // clients use the scroll methods below.
     public Page<AuditLogDTO> getAllAuditLogs(Pageable pageable) {
         return auditLogRepository.findAll(pageable)
                 .map(AuditLogDTO::fromEntity);
     }
 
     public Page<AuditLogDTO> getStoreAuditLogs(UUID storeId, Pageable pageable) {
-        return auditLogRepository.findAll(
-                (Specification<AuditLog>) (root, query, cb) -> cb.equal(root.get("store").get("id"), storeId),
-                pageable)
+        return auditLogRepository.findAll(byStore(storeId), pageable)
                 .map(AuditLogDTO::fromEntity);
     }
 
     public Page<AuditLogDTO> getProductAuditLogs(UUID productId, Pageable pageable) {
-        return auditLogRepository.findAll(
-                (Specification<AuditLog>) (root, query, cb) -> cb.and(
-                        cb.equal(root.get("entityType"), "PRODUCT"),
-                        cb.equal(root.get("entityId"), productId)),
-                pageable)
+        return auditLogRepository.findAll(byProduct(productId), pageable)
                 .map(AuditLogDTO::fromEntity);
     }
 
     public Page<AuditLogDTO> getAuditLogsByDateRange(LocalDateTime startDate, LocalDateTime endDate,
             Pageable pageable) {
-        return auditLogRepository.findAll(
-                (Specification<AuditLog>) (root, query, cb) -> cb.between(root.get("timestamp"), startDate, endDate),
-                pageable)
+        return auditLogRepository.findAll(byDateRange(startDate, endDate), pageable)
                 .map(AuditLogDTO::fromEntity);
     }
 
     public Page<AuditLogDTO> getAuditLogsByUser(UUID userId, Pageable pageable) {
-        return auditLogRepository.findAll(
-                (Specification<AuditLog>) (root, query, cb) -> cb.equal(root.get("user").get("id"), userId),
-                pageable)
+        return auditLogRepository.findAll(byUser(userId), pageable)
                 .map(AuditLogDTO::fromEntity);
     }
-}
\ No newline at end of file
+
+    // Keyset-paginated, newest first: each page seeks past the previous page's last (timestamp, id) instead
+    // of skipping rows, so page 1,000 costs the same as page 1. Every filter below is backed by an index on
+    // the partitioned table (see AuditPartitionService).
+    public CursorPage<AuditLogDTO> scrollAllAuditLogs(String cursor, int size) {
+        return scroll(Specification.where(null), cursor, size);
+    }
+
+    public CursorPage<AuditLogDTO> scrollStoreAuditLogs(UUID storeId, String cursor, int size) {
+        return scroll(byStore(storeId), cursor, size);
+    }
+
+    public CursorPage<AuditLogDTO> scrollProductAuditLogs(UUID productId, String cursor, int size) {
+        return scroll(byProduct(productId), cursor, size);
+    }
+
+    public CursorPage<AuditLogDTO> scrollAuditLogsByDateRange(LocalDateTime startDate, LocalDateTime endDate,
+            String cursor, int size) {
+        return scroll(byDateRange(startDate, endDate), cursor, size);
+    }
+
+    public CursorPage<AuditLogDTO> scrollAuditLogsByUser(UUID userId, String cursor, int size) {
+        return scroll(byUser(userId), cursor, size);
+    }
+
+    private static Specification<AuditLog> byStore(UUID storeId) {
+        return (root, query, cb) -> cb.equal(root.get("store").get("id"), storeId);
+    }
+
+    private static Specification<AuditLog> byProduct(UUID productId) {
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("entityType"), "PRODUCT"),
+                cb.equal(root.get("entityId"), productId));
+    }
+
+    private static Specification<AuditLog> byDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        return (root, query, cb) -> cb.between(root.get("timestamp"), startDate, endDate);
+    }
+
+    private static Specification<AuditLog> byUser(UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    private CursorPage<AuditLogDTO> scroll(Specification<AuditLog> filter, String cursor, int size) {
+        // user and store are fetched in the same query, since every DTO reads them
+        Window<AuditLog> window = auditLogRepository.findBy(filter, query -> query
+                .sortBy(NEWEST_FIRST)
+                .project("user", "store")
+                .limit(KeysetCursor.limit(size))
+                .scroll(KeysetCursor.decode(cursor, NEWEST_FIRST, AuditLog.class)));
+        return KeysetCursor.page(window, AuditLogDTO::fromEntity);
+    }
+}
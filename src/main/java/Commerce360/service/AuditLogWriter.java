@@ -0,0 +1,298 @@
+package Commerce360.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import Commerce360.config.AuditWriterConfig;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Bounded queue plus one background thread that writes audit events to audit_logs in JDBC batches.
+// Callers only pay for an offer on the queue; a slow or failing database never rolls back business work.
+// When the queue is full the configured overflow policy decides between waiting, dropping and spilling to a
+// local file that is replayed once the writer catches up. A batch the database rejects is retried row by row,
+// and rows that can never be written go to a dead-letter file instead of being spilled and replayed forever.
+@Service
+@Slf4j
+public class AuditLogWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_logs (id, timestamp, user_id, store_id, action, "
+            + "entity_type, entity_id, details, ip_address, user_agent) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            // A batch that failed part-way, or a spill file replayed twice, may hold rows already written
+            + "ON CONFLICT (id, timestamp) DO NOTHING";
+    // After a failed write the spill file is left alone for this long, so a database outage is not hammered
+    private static final long REPLAY_BACKOFF_MILLIS = 30000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditWriterConfig config;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<AuditEvent> queue;
+    private final Path spillPath;
+    private final Path replayPath;
+    private final Path deadLetterPath;
+    private final Object spillLock = new Object();
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter spilled;
+    private final Counter failures;
+    private final Counter deadLettered;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "audit-log-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running = true;
+    private long replayNotBefore;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate, AuditWriterConfig config, ObjectMapper objectMapper,
+            MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        this.spillPath = Paths.get(config.getSpillPath());
+        this.replayPath = Paths.get(config.getSpillPath() + ".replay");
+        this.deadLetterPath = Paths.get(config.getSpillPath() + ".dead");
+
+        Gauge.builder("audit.queue.depth", queue, BlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(registry);
+        this.written = Counter.builder("audit.events.written")
+                .description("Audit events written to the database")
+                .register(registry);
+        this.dropped = Counter.builder("audit.events.dropped")
+                .description("Audit events lost because the queue was full or a write failed")
+                .register(registry);
+        this.spilled = Counter.builder("audit.events.spilled")
+                .description("Audit events written to the local spill file")
+                .register(registry);
+        this.failures = Counter.builder("audit.write.failures")
+                .description("Failed audit batch writes")
+                .register(registry);
+        this.deadLettered = Counter.builder("audit.events.dead_lettered")
+                .description("Audit events the database rejected, kept in the dead-letter file")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.submit(this::drain);
+    }
+
+    // Writes whatever is still queued before the datasource goes away
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.shutdown();
+        if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Audit writer stopped with {} events still queued", queue.size());
+        }
+    }
+
+    public void submit(AuditEvent event) {
+        if (queue.offer(event)) {
+            return;
+        }
+
+        switch (config.getOverflow()) {
+            case BLOCK:
+                try {
+                    if (queue.offer(event, config.getBlockTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                dropped.increment();
+                break;
+            case SPILL:
+                spill(List.of(event));
+                break;
+            default:
+                dropped.increment();
+                break;
+        }
+    }
+
+    private void drain() {
+        List<AuditEvent> batch = new ArrayList<>(config.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditEvent first = queue.poll(config.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replaySpill();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, config.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Audit writer error: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> bind(ps, event));
+            written.increment(batch.size());
+        } catch (DataAccessException e) {
+            failures.increment();
+            log.error("Failed to write {} audit events: {}", batch.size(), e.getMessage());
+            if (isTransient(e)) {
+                setAside(batch);
+            } else {
+                writeEach(batch);
+            }
+        }
+    }
+
+    // The database is up but refused the batch, so one or more rows are bad; find them one insert at a time
+    private void writeEach(List<AuditEvent> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            AuditEvent event = batch.get(i);
+            try {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, event));
+                written.increment();
+            } catch (DataAccessException e) {
+                if (isTransient(e)) {
+                    setAside(batch.subList(i, batch.size()));
+                    return;
+                }
+                log.error("Audit event {} rejected, moving it to {}: {}", event.id(), deadLetterPath, e.getMessage());
+                deadLettered.increment();
+                append(deadLetterPath, List.of(event));
+            }
+        }
+    }
+
+    // Events kept for a later attempt once the database is reachable again
+    private void setAside(List<AuditEvent> events) {
+        replayNotBefore = System.currentTimeMillis() + REPLAY_BACKOFF_MILLIS;
+        if (config.getOverflow() == AuditWriterConfig.Overflow.SPILL) {
+            spill(events);
+        } else {
+            dropped.increment(events.size());
+        }
+    }
+
+    private static void bind(PreparedStatement ps, AuditEvent event) throws SQLException {
+        ps.setObject(1, event.id());
+        ps.setObject(2, event.timestamp());
+        ps.setObject(3, event.userId());
+        ps.setObject(4, event.storeId());
+        ps.setString(5, event.action());
+        ps.setString(6, event.entityType());
+        ps.setObject(7, event.entityId());
+        ps.setString(8, event.details());
+        ps.setString(9, event.ipAddress());
+        ps.setString(10, event.userAgent());
+    }
+
+    // Outages and timeouts; constraint violations and bad data are not worth retrying
+    private static boolean isTransient(DataAccessException e) {
+        return e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private void spill(List<AuditEvent> events) {
+        if (append(spillPath, events)) {
+            spilled.increment(events.size());
+        }
+    }
+
+    private boolean append(Path path, List<AuditEvent> events) {
+        synchronized (spillLock) {
+            try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (AuditEvent event : events) {
+                    out.write(objectMapper.writeValueAsString(event));
+                    out.newLine();
+                }
+                return true;
+            } catch (IOException e) {
+                log.error("Failed to write {} audit events to {}: {}", events.size(), path, e.getMessage());
+                dropped.increment(events.size());
+                return false;
+            }
+        }
+    }
+
+    // Runs only when the queue is idle. The spill file is moved aside first so new spills start a fresh file;
+    // events that fail again are spilled again rather than lost.
+    private void replaySpill() {
+        if (System.currentTimeMillis() < replayNotBefore) {
+            return;
+        }
+        try {
+            synchronized (spillLock) {
+                if (!Files.exists(replayPath)) {
+                    if (!Files.exists(spillPath)) {
+                        return;
+                    }
+                    Files.move(spillPath, replayPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+
+            int replayed = 0;
+            List<AuditEvent> batch = new ArrayList<>(config.getBatchSize());
+            try (BufferedReader in = Files.newBufferedReader(replayPath, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    batch.add(objectMapper.readValue(line, AuditEvent.class));
+                    if (batch.size() == config.getBatchSize()) {
+                        write(batch);
+                        replayed += batch.size();
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                replayed += batch.size();
+            }
+            Files.delete(replayPath);
+            log.info("Replayed {} spilled audit events", replayed);
+        } catch (IOException e) {
+            replayNotBefore = System.currentTimeMillis() + REPLAY_BACKOFF_MILLIS;
+            log.error("Failed to replay audit spill file {}: {}", replayPath, e.getMessage());
+        }
+    }
+}
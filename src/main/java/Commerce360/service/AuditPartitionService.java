@@ -0,0 +1,153 @@
+package Commerce360.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// Keeps audit_logs as a PostgreSQL table range-partitioned by month on timestamp. Old data is removed by
+// dropping whole partitions, which is instant and leaves no dead tuples, instead of running DELETEs.
+//
+// Partition names carry their bounds: audit_logs_y2026m10 holds October 2026. A table that existed before
+// partitioning is kept as audit_logs_before_y2026m11, covering everything up to that month, and is dropped
+// by retention like any other partition once its last month has expired.
+@Service
+@Slf4j
+public class AuditPartitionService {
+
+    private static final String TABLE = "audit_logs";
+    private static final String MONTHLY_PREFIX = TABLE + "_y";
+    private static final String LEGACY_PREFIX = TABLE + "_before_y";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("uuuu'm'MM");
+
+    // Each listing filter has a matching index; the partitioned parent propagates them to every partition
+    private static final List<String> INDEXES = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_audit_logs_timestamp_id ON audit_logs (timestamp, id)",
+            "CREATE INDEX IF NOT EXISTS idx_audit_logs_store_timestamp ON audit_logs (store_id, timestamp)",
+            "CREATE INDEX IF NOT EXISTS idx_audit_logs_user_timestamp ON audit_logs (user_id, timestamp)",
+            "CREATE INDEX IF NOT EXISTS idx_audit_logs_entity ON audit_logs (entity_type, entity_id)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${audit.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${audit.partitions.retention-months:12}")
+    private int retentionMonths;
+
+    private Boolean supported;
+
+    public AuditPartitionService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Idempotent. Converts a plain audit_logs table and creates upcoming partitions in one transaction, so
+    // writers never see a partitioned table without a partition for the current month.
+    public void preparePartitions() {
+        if (!isSupported()) {
+            log.info("Audit log partitioning needs PostgreSQL; leaving audit_logs as is");
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            convertToPartitioned();
+            INDEXES.forEach(jdbcTemplate::execute);
+            createUpcomingPartitions();
+        });
+    }
+
+    public int dropExpiredPartitions() {
+        if (!isSupported()) {
+            return 0;
+        }
+        YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths);
+        int dropped = 0;
+        for (String partition : partitions()) {
+            // Upper bound (exclusive) of the partition; it can go once that month is at or before the cutoff
+            YearMonth end = partition.startsWith(LEGACY_PREFIX)
+                    ? YearMonth.parse(partition.substring(LEGACY_PREFIX.length()), SUFFIX)
+                    : YearMonth.parse(partition.substring(MONTHLY_PREFIX.length()), SUFFIX).plusMonths(1);
+            if (!end.isAfter(cutoff)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                log.info("Dropped expired audit partition {}", partition);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    private void convertToPartitioned() {
+        String kind = jdbcTemplate.queryForObject(
+                "SELECT COALESCE((SELECT relkind::text FROM pg_class WHERE oid = to_regclass('" + TABLE + "')), '')",
+                String.class);
+        if ("p".equals(kind)) {
+            return;
+        }
+        if (!"r".equals(kind)) {
+            throw new IllegalStateException("audit_logs does not exist yet; Hibernate should have created it");
+        }
+
+        YearMonth bound = YearMonth.now().plusMonths(1);
+        String legacy = LEGACY_PREFIX + bound.format(SUFFIX);
+        log.info("Converting audit_logs to a partitioned table; existing rows stay in {}", legacy);
+
+        jdbcTemplate.execute("ALTER TABLE audit_logs RENAME TO " + legacy);
+        jdbcTemplate.execute("ALTER INDEX IF EXISTS audit_logs_pkey RENAME TO " + legacy + "_pkey");
+        jdbcTemplate.execute("CREATE TABLE audit_logs (LIKE " + legacy + " INCLUDING DEFAULTS) "
+                + "PARTITION BY RANGE (timestamp)");
+        // A unique key on a partitioned table must include the partition column
+        jdbcTemplate.execute("ALTER TABLE audit_logs ADD CONSTRAINT audit_logs_pkey PRIMARY KEY (id, timestamp)");
+
+        Boolean hasRows = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + legacy + ")",
+                Boolean.class);
+        if (Boolean.TRUE.equals(hasRows)) {
+            jdbcTemplate.execute("ALTER TABLE audit_logs ATTACH PARTITION " + legacy
+                    + " FOR VALUES FROM (MINVALUE) TO ('" + bound.atDay(1) + "')");
+        } else {
+            jdbcTemplate.execute("DROP TABLE " + legacy);
+        }
+    }
+
+    private void createUpcomingPartitions() {
+        YearMonth from = YearMonth.now();
+        for (String partition : partitions()) {
+            if (partition.startsWith(LEGACY_PREFIX)) {
+                YearMonth legacyEnd = YearMonth.parse(partition.substring(LEGACY_PREFIX.length()), SUFFIX);
+                if (legacyEnd.isAfter(from)) {
+                    from = legacyEnd;
+                }
+            }
+        }
+
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+        for (YearMonth month = from; !month.isAfter(last); month = month.plusMonths(1)) {
+            LocalDate start = month.atDay(1);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + MONTHLY_PREFIX + month.format(SUFFIX)
+                    + " PARTITION OF audit_logs FOR VALUES FROM ('" + start + "') TO ('" + start.plusMonths(1) + "')");
+        }
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = to_regclass('" + TABLE + "') ORDER BY c.relname",
+                String.class);
+    }
+
+    private boolean isSupported() {
+        if (supported == null) {
+            supported = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgresql"));
+        }
+        return supported;
+    }
+}
@@ -0,0 +1,219 @@
+package Commerce360.service;
+
+import Commerce360.dto.ProductDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+// Immutable view of the whole product catalog. Products sit in one array in database id order; the indexes
+// hold positions into it and every sortable property has its ascending order precomputed, so serving a page
+// only walks int arrays. The DTOs are shared between requests and must not be modified.
+final class CatalogSnapshot {
+
+    // Sort keys served from memory; anything else goes to the database. Ids compare by their text form, which
+    // is PostgreSQL's uuid order, and text by the collator of the database collation (see CatalogSnapshotService).
+    private static final Map<String, Comparator<ProductDTO>> SORTS = Map.of(
+            "id", Comparator.comparing((ProductDTO product) -> product.getId().toString()),
+            "price", Comparator.comparing(ProductDTO::getPrice,
+                    Comparator.nullsLast(Comparator.<BigDecimal>naturalOrder())));
+
+    private static final Map<String, Function<ProductDTO, String>> TEXT_SORTS = Map.of(
+            "sku", ProductDTO::getSku,
+            "name", ProductDTO::getName,
+            "category", ProductDTO::getCategory,
+            "brand", ProductDTO::getBrand);
+
+    private final ProductDTO[] products;
+    private final Map<UUID, Integer> byId = new HashMap<>();
+    private final Map<String, Integer> bySku = new HashMap<>();
+    private final Map<String, int[]> byCategory;
+    private final Map<UUID, int[]> bySupplier;
+    private final Map<String, int[]> sortOrders = new HashMap<>();
+    private final long version;
+    private final long readAtNanos;
+
+    // products must be in id order; readAtNanos is when they were read, which is what staleness is measured from.
+    // A null collator compares text by character value, as the C collation does.
+    CatalogSnapshot(List<ProductDTO> products, Collator collator, long version, long readAtNanos) {
+        this.products = products.toArray(new ProductDTO[0]);
+        this.version = version;
+        this.readAtNanos = readAtNanos;
+
+        Map<String, List<Integer>> categories = new HashMap<>();
+        Map<UUID, List<Integer>> suppliers = new HashMap<>();
+        for (int i = 0; i < this.products.length; i++) {
+            ProductDTO product = this.products[i];
+            byId.put(product.getId(), i);
+            bySku.put(product.getSku(), i);
+            categories.computeIfAbsent(product.getCategory(), key -> new ArrayList<>()).add(i);
+            if (product.getSupplier() != null) {
+                suppliers.computeIfAbsent(product.getSupplier().getId(), key -> new ArrayList<>()).add(i);
+            }
+        }
+        this.byCategory = toArrays(categories);
+        this.bySupplier = toArrays(suppliers);
+
+        SORTS.forEach((property, comparator) -> sortOrders.put(property,
+                sortedPositions((a, b) -> comparator.compare(this.products[a], this.products[b]))));
+        TEXT_SORTS.forEach((property, getter) -> sortOrders.put(property,
+                sortedPositions(textOrder(getter, collator))));
+    }
+
+    long version() {
+        return version;
+    }
+
+    long readAtNanos() {
+        return readAtNanos;
+    }
+
+    int size() {
+        return products.length;
+    }
+
+    Optional<ProductDTO> findById(UUID id) {
+        Integer position = byId.get(id);
+        return position != null ? Optional.of(products[position]) : Optional.empty();
+    }
+
+    Optional<ProductDTO> findBySku(String sku) {
+        Integer position = bySku.get(sku);
+        return position != null ? Optional.of(products[position]) : Optional.empty();
+    }
+
+    // Null filters are ignored. Empty when the request needs the database: a sort this snapshot does not
+    // hold, or a supplier without products here, which the database path treats as no supplier filter.
+    Optional<Page<ProductDTO>> page(String category, UUID supplierId, Pageable pageable) {
+        int[] order = null;
+        boolean descending = false;
+        if (pageable.getSort().isSorted()) {
+            List<Sort.Order> orders = pageable.getSort().toList();
+            if (!isServable(orders)) {
+                return Optional.empty();
+            }
+            order = sortOrders.get(orders.get(0).getProperty());
+            descending = orders.get(0).isDescending();
+        }
+        if (supplierId != null && !bySupplier.containsKey(supplierId)) {
+            return Optional.empty();
+        }
+
+        // null means every product
+        int[] candidates = intersect(
+                category != null ? byCategory.getOrDefault(category, new int[0]) : null,
+                supplierId != null ? bySupplier.get(supplierId) : null);
+        int total = candidates != null ? candidates.length : products.length;
+        long offset = pageable.getOffset();
+        int size = pageable.getPageSize();
+        List<ProductDTO> content = new ArrayList<>((int) Math.max(0, Math.min(size, total - offset)));
+
+        if (order == null) {
+            // Candidate positions are already in id order
+            for (long i = offset; i < total && content.size() < size; i++) {
+                content.add(products[candidates != null ? candidates[(int) i] : (int) i]);
+            }
+        } else {
+            BitSet members = null;
+            if (candidates != null) {
+                members = new BitSet(products.length);
+                for (int position : candidates) {
+                    members.set(position);
+                }
+            }
+            long skipped = 0;
+            // Walking the ascending order backwards puts nulls first, as PostgreSQL does for DESC
+            for (int i = 0; i < order.length && content.size() < size; i++) {
+                int position = order[descending ? order.length - 1 - i : i];
+                if (members != null && !members.get(position)) {
+                    continue;
+                }
+                if (skipped++ < offset) {
+                    continue;
+                }
+                content.add(products[position]);
+            }
+        }
+        return Optional.of(new PageImpl<>(content, pageable, total));
+    }
+
+    // One held property, optionally followed by id in the same direction: ties are already in id order, and
+    // walking backwards for DESC reverses them as well
+    private boolean isServable(List<Sort.Order> orders) {
+        if (orders.isEmpty() || orders.size() > 2 || !sortOrders.containsKey(orders.get(0).getProperty())) {
+            return false;
+        }
+        return orders.size() == 1 || ("id".equals(orders.get(1).getProperty())
+                && orders.get(1).getDirection() == orders.get(0).getDirection());
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        if (a == null || b == null) {
+            return a != null ? a : b;
+        }
+        int[] result = new int[Math.min(a.length, b.length)];
+        int count = 0;
+        for (int i = 0, j = 0; i < a.length && j < b.length;) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static <K> Map<K, int[]> toArrays(Map<K, List<Integer>> positions) {
+        Map<K, int[]> arrays = new HashMap<>();
+        positions.forEach((key, list) -> arrays.put(key, list.stream().mapToInt(Integer::intValue).toArray()));
+        return arrays;
+    }
+
+    // Stable sort, so ties stay in id order
+    private int[] sortedPositions(Comparator<Integer> comparator) {
+        return IntStream.range(0, products.length)
+                .boxed()
+                .sorted(comparator)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    // Collation keys are built once per value, which is far cheaper than collating on every comparison.
+    // Values the collation ranks equal fall back to character order, as PostgreSQL does for them.
+    private Comparator<Integer> textOrder(Function<ProductDTO, String> getter, Collator collator) {
+        String[] values = new String[products.length];
+        CollationKey[] keys = new CollationKey[products.length];
+        for (int i = 0; i < products.length; i++) {
+            values[i] = getter.apply(products[i]);
+            if (values[i] != null && collator != null) {
+                keys[i] = collator.getCollationKey(values[i]);
+            }
+        }
+        return (a, b) -> {
+            if (values[a] == null || values[b] == null) {
+                return values[a] == null ? (values[b] == null ? 0 : 1) : -1;
+            }
+            int result = collator != null ? keys[a].compareTo(keys[b]) : 0;
+            return result != 0 ? result : values[a].compareTo(values[b]);
+        };
+    }
+}
@@ -0,0 +1,215 @@
+package Commerce360.service;
+
+import Commerce360.config.CatalogSnapshotConfig;
+import Commerce360.dto.ProductDTO;
+import Commerce360.dto.SupplierDTO;
+import Commerce360.entity.Product;
+import Commerce360.repository.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Collator;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Serves product browsing from an in-memory CatalogSnapshot. Snapshots are rebuilt on a background thread
+// and swapped in whole, so readers never see a half-built one. A snapshot is only used while it matches
+// the latest local write and is younger than catalog.snapshot.max-staleness; otherwise callers go to the
+// database and a rebuild is started.
+@Service
+@Slf4j
+public class CatalogSnapshotService {
+
+    // Rebuilds started by reads wait at least this long after the previous attempt, so a failing or
+    // oversized catalog does not turn every read into a rebuild
+    private static final Duration REBUILD_BACKOFF = Duration.ofSeconds(10);
+
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogSnapshotConfig config;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+    // Bumped by every product write; a snapshot built before the bump is out of date
+    private final AtomicLong requestedVersion = new AtomicLong(1);
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-snapshot-rebuilder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile long lastAttemptNanos = System.nanoTime() - REBUILD_BACKOFF.toNanos();
+    private volatile boolean oversized;
+    // Looked up by the first rebuild; only the rebuilder thread uses it
+    private boolean collationResolved;
+    private Collator collator;
+
+    public CatalogSnapshotService(ProductRepository productRepository, JdbcTemplate jdbcTemplate,
+            CatalogSnapshotConfig config, PlatformTransactionManager transactionManager, MeterRegistry registry) {
+        this.productRepository = productRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("catalog.snapshot.products", current, ref -> ref.get() != null ? ref.get().size() : 0)
+                .register(registry);
+        Gauge.builder("catalog.snapshot.age.seconds", current, ref -> ref.get() != null
+                ? (System.nanoTime() - ref.get().readAtNanos()) / 1e9
+                : Double.NaN)
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (config.isEnabled()) {
+            queueRebuild();
+        }
+    }
+
+    // Called for every product write. Reads on this node skip the snapshot from now on. The version is bumped
+    // again once the transaction has finished, so a rebuild that ran while it was open, and read the old
+    // rows, is never used; the rebuild queued then reads the committed rows.
+    public void invalidate() {
+        requestedVersion.incrementAndGet();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            queueRebuild();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                requestedVersion.incrementAndGet();
+                queueRebuild();
+            }
+        });
+    }
+
+    // Empty when the page has to come from the database
+    public Optional<Page<ProductDTO>> page(String category, UUID supplierId, Pageable pageable) {
+        return usable().flatMap(snapshot -> snapshot.page(category, supplierId, pageable));
+    }
+
+    public Optional<ProductDTO> findById(UUID id) {
+        return usable().flatMap(snapshot -> snapshot.findById(id));
+    }
+
+    private Optional<CatalogSnapshot> usable() {
+        if (!config.isEnabled()) {
+            return Optional.empty();
+        }
+        CatalogSnapshot snapshot = current.get();
+        long now = System.nanoTime();
+        if (snapshot != null && snapshot.version() == requestedVersion.get()
+                && now - snapshot.readAtNanos() <= config.getMaxStaleness().toNanos()) {
+            return Optional.of(snapshot);
+        }
+        // Covers snapshots that aged out as well as a rebuild that failed or was skipped
+        if (now - lastAttemptNanos > REBUILD_BACKOFF.toNanos()) {
+            queueRebuild();
+        }
+        return Optional.empty();
+    }
+
+    // At most one rebuild waits in the queue; it picks up every write made before it starts
+    private void queueRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuilder.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        rebuildQueued.set(false);
+        long version = requestedVersion.get();
+        long readAt = System.nanoTime();
+        lastAttemptNanos = readAt;
+        try {
+            CatalogSnapshot snapshot = readOnlyTransaction.execute(status -> load(version, readAt));
+            current.set(snapshot);
+            if (snapshot != null) {
+                log.debug("Catalog snapshot v{} built with {} products in {} ms", version, snapshot.size(),
+                        (System.nanoTime() - readAt) / 1_000_000);
+            }
+        } catch (Exception e) {
+            log.error("Error building the catalog snapshot, browsing stays on the database: {}", e.getMessage(), e);
+        }
+    }
+
+    private CatalogSnapshot load(long version, long readAt) {
+        long count = productRepository.count();
+        if (count > config.getMaxProducts()) {
+            if (!oversized) {
+                log.warn("Catalog has {} products, more than catalog.snapshot.max-products={}; "
+                        + "not holding it in memory", count, config.getMaxProducts());
+                oversized = true;
+            }
+            return null;
+        }
+        oversized = false;
+
+        // One SupplierDTO per supplier, shared by all of its products
+        Map<UUID, SupplierDTO> suppliers = new HashMap<>();
+        List<ProductDTO> products = new ArrayList<>((int) count);
+        for (Product entity : productRepository.findAllWithSupplierOrderById()) {
+            ProductDTO product = ProductDTO.fromEntity(entity);
+            if (product.getSupplier() != null) {
+                product.setSupplier(suppliers.computeIfAbsent(product.getSupplier().getId(),
+                        id -> product.getSupplier()));
+            }
+            products.add(product);
+        }
+        if (!collationResolved) {
+            collator = databaseCollator();
+            collationResolved = true;
+        }
+        return new CatalogSnapshot(products, collator, version, readAt);
+    }
+
+    // Text sorts must come out in the order ORDER BY gives, which follows the database collation, e.g.
+    // en_US.UTF-8. Java's collator for the same locale ranks case and accents the same way. C and POSIX, and
+    // databases other than PostgreSQL, compare by character value, which needs no collator.
+    private Collator databaseCollator() {
+        boolean postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgresql"));
+        if (!postgres) {
+            return null;
+        }
+        String collation = jdbcTemplate.queryForObject(
+                "SELECT datcollate FROM pg_database WHERE datname = current_database()", String.class);
+        if (collation == null || collation.equals("C") || collation.startsWith("C.") || collation.equals("POSIX")) {
+            return null;
+        }
+        Locale locale = Locale.forLanguageTag(collation.split("\\.")[0].replace('_', '-'));
+        log.info("Catalog snapshot sorts text with the {} collation", locale.toLanguageTag());
+        return Collator.getInstance(locale);
+    }
+
+    @PreDestroy
+    public void stop() {
+        rebuilder.shutdownNow();
+    }
+}
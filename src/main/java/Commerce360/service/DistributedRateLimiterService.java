@@ -0,0 +1,122 @@
+package Commerce360.service;
+
+import Commerce360.config.RateLimiterConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Rate limiting across replicas. When a RemoteTokenBucket bean exists, each node takes a small batch of
+// tokens per round-trip and spends them locally for a few milliseconds; a rejection is remembered for the
+// same window. Most requests therefore never wait on the shared store. If the store fails, the node uses
+// the per-JVM RateLimiterService until distributedRetryMillis has passed.
+@Service
+public class DistributedRateLimiterService {
+    private static final Logger logger = LoggerFactory.getLogger(DistributedRateLimiterService.class);
+
+    private static final class Lease {
+        private final AtomicInteger remaining;
+        private final long expiresAt;
+        private final boolean rejected;
+
+        Lease(int remaining, long expiresAt, boolean rejected) {
+            this.remaining = new AtomicInteger(remaining);
+            this.expiresAt = expiresAt;
+            this.rejected = rejected;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    private final RateLimiterService localLimiter;
+    private final ObjectProvider<RemoteTokenBucket> remoteBucket;
+    private final RateLimiterConfig config;
+    private final ConcurrentHashMap<String, Lease> leases = new ConcurrentHashMap<>();
+    private final Counter remoteCalls;
+    private final Counter fallbacks;
+    private final long startNanos = System.nanoTime();
+    private volatile long remoteDisabledUntil;
+
+    public DistributedRateLimiterService(RateLimiterService localLimiter,
+            ObjectProvider<RemoteTokenBucket> remoteBucket, RateLimiterConfig config, MeterRegistry registry) {
+        this.localLimiter = localLimiter;
+        this.remoteBucket = remoteBucket;
+        this.config = config;
+        this.remoteCalls = Counter.builder("rate_limiter.remote.calls")
+                .description("Round-trips to the shared token bucket")
+                .register(registry);
+        this.fallbacks = Counter.builder("rate_limiter.remote.fallbacks")
+                .description("Decisions made by the local limiter because the shared bucket failed")
+                .register(registry);
+    }
+
+    public boolean tryAcquire(String clientId) {
+        return tryAcquire(clientId, config.getCapacity(), localLimiter.getLeakInterval());
+    }
+
+    public boolean tryAcquire(String clientId, int capacity, long leakIntervalMillis) {
+        return acquire(clientId, capacity, leakIntervalMillis).allowed();
+    }
+
+    // With a shared bucket, remaining reports what this node still holds locally
+    public RateLimitDecision acquire(String clientId, int capacity, long leakIntervalMillis) {
+        RemoteTokenBucket bucket = remoteBucket.getIfAvailable();
+        long now = now();
+        if (bucket == null) {
+            return localLimiter.acquire(clientId, capacity, leakIntervalMillis);
+        }
+        if (now - remoteDisabledUntil < 0) {
+            fallbacks.increment();
+            return localLimiter.acquire(clientId, capacity, leakIntervalMillis);
+        }
+
+        Lease lease = leases.get(clientId);
+        if (lease != null && !lease.isExpired(now)) {
+            // The shared bucket was empty: a cached rejection until the lease expires
+            if (lease.rejected) {
+                return new RateLimitDecision(false, capacity, 0, Math.max(leakIntervalMillis, lease.expiresAt - now));
+            }
+            int remaining = lease.remaining.getAndDecrement();
+            if (remaining > 0) {
+                return new RateLimitDecision(true, capacity, remaining - 1, 0);
+            }
+            // Batch spent; the shared bucket may still hold tokens, so fetch the next one
+        }
+
+        try {
+            remoteCalls.increment();
+            int granted = bucket.take(clientId, Math.min(config.getDistributedBatchSize(), capacity), capacity,
+                    leakIntervalMillis);
+            leases.put(clientId, new Lease(Math.max(0, granted - 1), now + config.getDistributedLeaseMillis(),
+                    granted == 0));
+            return granted > 0
+                    ? new RateLimitDecision(true, capacity, granted - 1, 0)
+                    : new RateLimitDecision(false, capacity, 0, leakIntervalMillis);
+        } catch (Exception e) {
+            remoteDisabledUntil = now + config.getDistributedRetryMillis();
+            logger.warn("Shared rate limit store unavailable, using local limits for {} ms: {}",
+                    config.getDistributedRetryMillis(), e.getMessage());
+            fallbacks.increment();
+            return localLimiter.acquire(clientId, capacity, leakIntervalMillis);
+        }
+    }
+
+    @Scheduled(fixedRateString = "#{@rateLimiterConfig.cleanupInterval}")
+    public void cleanupExpiredLeases() {
+        long now = now();
+        leases.values().removeIf(lease -> lease.isExpired(now));
+    }
+
+    private long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
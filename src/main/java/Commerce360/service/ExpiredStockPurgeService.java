@@ -0,0 +1,133 @@
+package Commerce360.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Commerce360.entity.AuditLog;
+import Commerce360.entity.Inventory;
+import Commerce360.entity.Transaction;
+import Commerce360.entity.TransactionType;
+import Commerce360.repository.InventoryRepository;
+import Commerce360.repository.TransactionRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Removes expired inventory in id-ordered chunks. Each chunk writes its EXPIRED transactions, audit rows
+// and bulk delete in one transaction, so a crash loses at most the chunk in flight. Rows of committed
+// chunks are gone, which makes a re-run pick up exactly where the previous one stopped.
+@Service
+@Slf4j
+public class ExpiredStockPurgeService {
+
+    static final String SYSTEM_PRINCIPAL = "system:expired-stock-purge";
+    static final int CHUNK_SIZE = 500;
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final InventoryRepository inventoryRepository;
+    private final TransactionRepository transactionRepository;
+    private final AuditLogService auditLogService;
+    private final TransactionTemplate transactionTemplate;
+    private final LocalCache cache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ExpiredStockPurgeService(InventoryRepository inventoryRepository,
+            TransactionRepository transactionRepository, AuditLogService auditLogService,
+            PlatformTransactionManager transactionManager, LocalCache cache) {
+        this.inventoryRepository = inventoryRepository;
+        this.transactionRepository = transactionRepository;
+        this.auditLogService = auditLogService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cache = cache;
+    }
+
+    // Returns the number of inventory rows removed
+    public long purgeExpiredStock() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID afterId = FIRST_ID;
+        long removed = 0;
+        int chunks = 0;
+
+        while (afterId != null) {
+            // Set when the scheduler lease is lost; another node may already be purging
+            if (Thread.currentThread().isInterrupted()) {
+                log.warn("Expired stock purge stopped after {} chunks; the next run continues from there", chunks);
+                break;
+            }
+            final UUID cursor = afterId;
+            ChunkResult result = transactionTemplate.execute(status -> purgeChunk(now, cursor));
+            if (result == null || result.removed == 0) {
+                break;
+            }
+            removed += result.removed;
+            chunks++;
+            afterId = result.lastId;
+            log.info("Expired stock purge: chunk {} removed {} rows ({} total)", chunks, result.removed, removed);
+        }
+
+        return removed;
+    }
+
+    private ChunkResult purgeChunk(LocalDateTime now, UUID afterId) {
+        List<Inventory> expired = inventoryRepository.findExpiredAfter(now, afterId, PageRequest.of(0, CHUNK_SIZE));
+        if (expired.isEmpty()) {
+            return new ChunkResult(0, null);
+        }
+
+        entityManager.unwrap(Session.class).setJdbcBatchSize(CHUNK_SIZE);
+
+        List<Transaction> transactions = new ArrayList<>(expired.size());
+        List<AuditLog> auditLogs = new ArrayList<>(expired.size());
+        List<UUID> ids = new ArrayList<>(expired.size());
+        Set<UUID> storeIds = new HashSet<>();
+
+        for (Inventory inventory : expired) {
+            transactions.add(Transaction.builder()
+                    .store(inventory.getStore())
+                    .product(inventory.getProduct())
+                    .type(TransactionType.EXPIRED)
+                    .quantity(inventory.getQuantity())
+                    .unitPrice(inventory.getUnitPrice())
+                    .totalAmount(inventory.getQuantity() * inventory.getUnitPrice())
+                    .transactionDate(now)
+                    .expiryDate(inventory.getExpiryDate())
+                    .batchNumber(inventory.getBatchNumber())
+                    .notes("Stock expired")
+                    .supplier(inventory.getProduct().getSupplier())
+                    .build());
+
+            auditLogs.add(auditLogService.buildSystemEntry(SYSTEM_PRINCIPAL, inventory.getStore(),
+                    "REMOVE_EXPIRED", "INVENTORY", inventory.getId(),
+                    String.format("Automatically removed %d expired units of %s",
+                            inventory.getQuantity(), inventory.getProduct().getName())));
+
+            ids.add(inventory.getId());
+            storeIds.add(inventory.getStore().getId());
+        }
+
+        transactionRepository.saveAll(transactions);
+        auditLogService.logActions(auditLogs);
+        // Flushes the inserts as batches, deletes the chunk in one statement and clears the context
+        inventoryRepository.deleteAllByIdIn(ids);
+        // Registered on the chunk's transaction, so the evictions run once it commits
+        storeIds.forEach(cache::evictStoreViews);
+
+        return new ChunkResult(ids.size(), ids.get(ids.size() - 1));
+    }
+
+    private record ChunkResult(int removed, UUID lastId) {
+    }
+}
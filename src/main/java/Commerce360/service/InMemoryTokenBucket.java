@@ -0,0 +1,60 @@
+package Commerce360.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// RemoteTokenBucket held in this JVM, enabled with rate.limiter.shared-store=memory. It only shares buckets
+// between limiters in one process, so it suits single-node setups and tests of the batching in
+// DistributedRateLimiterService, not replicated deployments.
+@Component
+@ConditionalOnProperty(name = "rate.limiter.shared-store", havingValue = "memory")
+public class InMemoryTokenBucket implements RemoteTokenBucket {
+
+    private static final class State {
+        private int tokens;
+        private long refilledAt;
+        private long expiresAt;
+    }
+
+    private final ConcurrentHashMap<String, State> buckets = new ConcurrentHashMap<>();
+    private final long startNanos = System.nanoTime();
+
+    @Override
+    public int take(String key, int requested, int capacity, long leakIntervalMillis) {
+        long now = now();
+        int[] granted = new int[1];
+        buckets.compute(key, (k, state) -> {
+            if (state == null) {
+                state = new State();
+                state.tokens = capacity;
+                state.refilledAt = now;
+            }
+            long leaks = (now - state.refilledAt) / leakIntervalMillis;
+            if (leaks > 0) {
+                state.tokens = (int) Math.min(capacity, state.tokens + leaks);
+                state.refilledAt = state.tokens >= capacity ? now : state.refilledAt + leaks * leakIntervalMillis;
+            }
+            granted[0] = Math.min(requested, Math.min(state.tokens, capacity));
+            state.tokens -= granted[0];
+            state.expiresAt = now + capacity * leakIntervalMillis;
+            return state;
+        });
+        return granted[0];
+    }
+
+    @Scheduled(fixedRateString = "#{@rateLimiterConfig.cleanupInterval}")
+    public void cleanupExpiredBuckets() {
+        long now = now();
+        // Checked inside computeIfPresent, so a take running on the same bucket is never lost
+        buckets.keySet().forEach(key -> buckets.computeIfPresent(key,
+                (k, state) -> state.expiresAt < now ? null : state));
+    }
+
+    private long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
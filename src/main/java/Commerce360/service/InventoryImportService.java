@@ -0,0 +1,248 @@
+package Commerce360.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Commerce360.dto.BulkInventoryRequest.BulkInventoryLine;
+import Commerce360.dto.BulkInventoryResultDTO;
+import Commerce360.dto.InventoryImportResultDTO;
+import Commerce360.entity.TransactionType;
+import Commerce360.entity.User;
+import Commerce360.security.SecurityContextUtil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Streams a CSV or NDJSON stock-in file into a store's inventory. Only one chunk of rows is held in
+// memory at a time; each chunk is applied through InventoryService.bulkUpdate (same validation as
+// stockIn) in its own transaction, then the persistence context is flushed and cleared.
+@Service
+@Slf4j
+public class InventoryImportService {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final List<String> CSV_COLUMNS = List.of("productId", "quantity", "expiryDate", "batchNumber",
+            "notes");
+
+    private final InventoryService inventoryService;
+    private final SecurityContextUtil securityContextUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public InventoryImportService(InventoryService inventoryService, SecurityContextUtil securityContextUtil,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.inventoryService = inventoryService;
+        this.securityContextUtil = securityContextUtil;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+    }
+
+    public InventoryImportResultDTO importStock(UUID storeId, Format format, InputStream body) throws IOException {
+        User currentUser = securityContextUtil.getCurrentUser()
+                .orElseThrow(() -> new RuntimeException("User not authenticated"));
+        // Fail fast before reading the body if the caller cannot manage this store
+        inventoryService.getManagedStore(storeId, currentUser);
+
+        ImportProgress progress = new ImportProgress();
+        List<BulkInventoryLine> chunk = new ArrayList<>(CHUNK_SIZE);
+        // File line of each chunk entry; blank lines and the header mean these are not consecutive
+        List<Long> chunkLineNumbers = new ArrayList<>(CHUNK_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            int[] columnIndexes = null;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                if (format == Format.CSV && columnIndexes == null) {
+                    columnIndexes = parseHeader(line);
+                    continue;
+                }
+
+                progress.rowsRead++;
+                try {
+                    chunk.add(format == Format.CSV ? parseCsvRow(line, columnIndexes) : parseJsonRow(line));
+                    chunkLineNumbers.add(lineNumber);
+                } catch (Exception e) {
+                    progress.addError(lineNumber, null, "Unparseable row: " + e.getMessage());
+                }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    commitChunk(storeId, chunk, chunkLineNumbers, progress);
+                    chunk.clear();
+                    chunkLineNumbers.clear();
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            commitChunk(storeId, chunk, chunkLineNumbers, progress);
+        }
+
+        log.info("Inventory import for store {} finished: {} rows read, {} imported, {} errors",
+                storeId, progress.rowsRead, progress.rowsImported, progress.errorCount);
+
+        return InventoryImportResultDTO.builder()
+                .rowsRead(progress.rowsRead)
+                .rowsImported(progress.rowsImported)
+                .chunksCommitted(progress.chunksCommitted)
+                .errorCount(progress.errorCount)
+                .errorsTruncated(progress.errorCount > progress.errors.size())
+                .errors(progress.errors)
+                .build();
+    }
+
+    // lineNumbers.get(i) is the file line lines.get(i) was parsed from
+    private void commitChunk(UUID storeId, List<BulkInventoryLine> lines, List<Long> lineNumbers,
+            ImportProgress progress) {
+        try {
+            BulkInventoryResultDTO result = transactionTemplate.execute(status -> {
+                BulkInventoryResultDTO chunkResult = inventoryService.bulkUpdate(storeId, lines);
+                entityManager.flush();
+                entityManager.clear();
+                return chunkResult;
+            });
+
+            progress.chunksCommitted++;
+            progress.rowsImported += result.getAppliedLines();
+            for (BulkInventoryResultDTO.LineError error : result.getErrors()) {
+                progress.addError(lineNumbers.get(error.getLineNumber() - 1), error.getProductId(),
+                        error.getMessage());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Inventory import chunk starting at line {} rolled back: {}", lineNumbers.get(0),
+                    e.getMessage());
+            for (int i = 0; i < lines.size(); i++) {
+                progress.addError(lineNumbers.get(i), lines.get(i).getProductId(),
+                        "Chunk rolled back: " + e.getMessage());
+            }
+        }
+
+        log.info("Inventory import for store {}: {} rows read, {} imported, {} errors so far",
+                storeId, progress.rowsRead, progress.rowsImported, progress.errorCount);
+    }
+
+    private int[] parseHeader(String line) {
+        List<String> header = splitCsv(line);
+        int[] indexes = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            indexes[i] = -1;
+            for (int j = 0; j < header.size(); j++) {
+                if (header.get(j).trim().equalsIgnoreCase(CSV_COLUMNS.get(i))) {
+                    indexes[i] = j;
+                }
+            }
+        }
+        if (indexes[0] < 0 || indexes[1] < 0) {
+            throw new RuntimeException("CSV header must contain productId and quantity columns");
+        }
+        return indexes;
+    }
+
+    private BulkInventoryLine parseCsvRow(String line, int[] columnIndexes) {
+        List<String> values = splitCsv(line);
+        String expiryDate = column(values, columnIndexes[2]);
+        return BulkInventoryLine.builder()
+                .type(TransactionType.STOCK_IN)
+                .productId(UUID.fromString(column(values, columnIndexes[0])))
+                .quantity(Integer.valueOf(column(values, columnIndexes[1])))
+                .expiryDate(expiryDate != null ? parseDateTime(expiryDate) : null)
+                .batchNumber(column(values, columnIndexes[3]))
+                .notes(column(values, columnIndexes[4]))
+                .build();
+    }
+
+    private BulkInventoryLine parseJsonRow(String line) throws IOException {
+        BulkInventoryLine row = objectMapper.readValue(line, BulkInventoryLine.class);
+        // The import only stocks in; sales go through /sale or /bulk
+        row.setType(TransactionType.STOCK_IN);
+        return row;
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+    }
+
+    private static String column(List<String> values, int index) {
+        if (index < 0 || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // Minimal RFC 4180 field splitter for a single physical line (quoted commas and "" escapes)
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static class ImportProgress {
+        private long rowsRead;
+        private long rowsImported;
+        private int chunksCommitted;
+        private long errorCount;
+        private final List<BulkInventoryResultDTO.LineError> errors = new ArrayList<>();
+
+        void addError(long lineNumber, UUID productId, String message) {
+            errorCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(BulkInventoryResultDTO.LineError.builder()
+                        .lineNumber((int) lineNumber)
+                        .productId(productId)
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+}
@@ -1,27 +1,48 @@
 package Commerce360.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
-// import org.springframework.cache.annotation.CacheEvict;
-// import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import Commerce360.config.CacheName;
+import Commerce360.dto.BulkInventoryRequest.BulkInventoryLine;
+import Commerce360.dto.CachedPage;
+import Commerce360.dto.BulkInventoryResultDTO;
 import Commerce360.dto.InventoryDTO;
+import Commerce360.dto.StockShortageDTO;
 import Commerce360.entity.*;
 import Commerce360.entity.TransactionType;
+import Commerce360.exception.InsufficientStockException;
 import Commerce360.repository.*;
 import Commerce360.security.SecurityContextUtil;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class InventoryService {
 
+        // JDBC batch size used by the bulk ingestion path (the global default is tuned for small requests)
+        private static final int BULK_BATCH_SIZE = 100;
+
+        @PersistenceContext
+        private EntityManager entityManager;
+
         @Autowired
         private final InventoryRepository inventoryRepository;
 
@@ -40,23 +61,27 @@ public class InventoryService {
         @Autowired
         private final SecurityContextUtil securityContextUtil;
 
+        @Autowired
+        private final LocalCache cache;
+
         public InventoryService(
                         InventoryRepository inventoryRepository,
                         StoreRepository storeRepository,
                         ProductRepository productRepository,
                         TransactionRepository transactionRepository,
                         AuditLogService auditLogService,
-                        SecurityContextUtil securityContextUtil) {
+                        SecurityContextUtil securityContextUtil,
+                        LocalCache cache) {
                 this.inventoryRepository = inventoryRepository;
                 this.storeRepository = storeRepository;
                 this.productRepository = productRepository;
                 this.transactionRepository = transactionRepository;
                 this.auditLogService = auditLogService;
                 this.securityContextUtil = securityContextUtil;
+                this.cache = cache;
         }
 
         @Transactional
-        // @CacheEvict(value = { "inventory", "inventory_summary" }, key = "#storeId")
         public InventoryDTO stockIn(UUID storeId, UUID productId, Integer quantity,
                         LocalDateTime expiryDate, String batchNumber, String notes) {
                 Store store = storeRepository.findById(storeId)
@@ -65,7 +90,7 @@ public class InventoryService {
                 // Check if user is store owner or admin
                 UUID currentUserId = securityContextUtil.getCurrentUserId();
                 if (!store.getOwner().getId().equals(currentUserId) &&
-                                !securityContextUtil.getCurrentUser().get().getRole().equals(UserRole.ADMIN)) {
+                                securityContextUtil.getCurrentPrincipal().get().role() != UserRole.ADMIN) {
                         throw new RuntimeException("You can only manage inventory for your own stores");
                 }
 
@@ -91,7 +116,7 @@ public class InventoryService {
                                         .build();
                 } else {
                         // If no expiry date, try to find existing inventory without expiry date
-                        inventory = inventoryRepository.findByStoreAndProduct(store, product)
+                        inventory = inventoryRepository.findFirstByStoreAndProductAndExpiryDateIsNull(store, product)
                                         .orElse(Inventory.builder()
                                                         .store(store)
                                                         .product(product)
@@ -129,12 +154,12 @@ public class InventoryService {
                 auditLogService.logAction("STOCK_IN", "INVENTORY", inventory.getId(),
                                 String.format("Stocked in %d units of %s at $%.2f per unit", quantity,
                                                 product.getName(), unitPrice));
+                cache.evictStoreViews(storeId);
 
                 return InventoryDTO.fromEntity(inventory);
         }
 
         @Transactional
-        // @CacheEvict(value = { "inventory", "inventory_summary" }, key = "#storeId")
         public InventoryDTO recordSale(UUID storeId, UUID productId, Integer quantity, String notes) {
                 Store store = storeRepository.findById(storeId)
                                 .orElseThrow(() -> new RuntimeException("Store not found"));
@@ -142,7 +167,7 @@ public class InventoryService {
                 // Check if user is store owner or admin
                 UUID currentUserId = securityContextUtil.getCurrentUserId();
                 if (!store.getOwner().getId().equals(currentUserId) &&
-                                !securityContextUtil.getCurrentUser().get().getRole().equals(UserRole.ADMIN)) {
+                                securityContextUtil.getCurrentPrincipal().get().role() != UserRole.ADMIN) {
                         throw new RuntimeException("You can only manage inventory for your own stores");
                 }
 
@@ -152,16 +177,10 @@ public class InventoryService {
                 Inventory inventory = inventoryRepository.findByStoreAndProduct(store, product)
                                 .orElseThrow(() -> new RuntimeException("Product not found in inventory"));
 
-                if (inventory.getQuantity() < quantity) {
-                        throw new RuntimeException("Insufficient stock");
-                }
-
                 // Use product price from catalog
                 Double unitPrice = product.getPrice().doubleValue();
 
-                inventory.setQuantity(inventory.getQuantity() - quantity);
-                inventory.setLastUpdated(LocalDateTime.now());
-                inventory = inventoryRepository.save(inventory);
+                inventory = decrementStock(inventory.getId(), quantity);
 
                 Transaction transaction = Transaction.builder()
                                 .store(store)
@@ -180,12 +199,12 @@ public class InventoryService {
                 auditLogService.logAction("SALE", "INVENTORY", inventory.getId(),
                                 String.format("Sold %d units of %s at $%.2f per unit", quantity, product.getName(),
                                                 unitPrice));
+                cache.evictStoreViews(storeId);
 
                 return InventoryDTO.fromEntity(inventory);
         }
 
         @Transactional
-        // @CacheEvict(value = { "inventory", "inventory_summary" }, key = "#storeId")
         public InventoryDTO removeStock(UUID storeId, UUID productId, Integer quantity, String reason) {
                 Store store = storeRepository.findById(storeId)
                                 .orElseThrow(() -> new RuntimeException("Store not found"));
@@ -193,7 +212,7 @@ public class InventoryService {
                 // Check if user is store owner or admin
                 UUID currentUserId = securityContextUtil.getCurrentUserId();
                 if (!store.getOwner().getId().equals(currentUserId) &&
-                                !securityContextUtil.getCurrentUser().get().getRole().equals(UserRole.ADMIN)) {
+                                securityContextUtil.getCurrentPrincipal().get().role() != UserRole.ADMIN) {
                         throw new RuntimeException("You can only manage inventory for your own stores");
                 }
 
@@ -203,13 +222,7 @@ public class InventoryService {
                 Inventory inventory = inventoryRepository.findByStoreAndProduct(store, product)
                                 .orElseThrow(() -> new RuntimeException("Product not found in inventory"));
 
-                if (inventory.getQuantity() < quantity) {
-                        throw new RuntimeException("Insufficient stock");
-                }
-
-                inventory.setQuantity(inventory.getQuantity() - quantity);
-                inventory.setLastUpdated(LocalDateTime.now());
-                inventory = inventoryRepository.save(inventory);
+                inventory = decrementStock(inventory.getId(), quantity);
 
                 Transaction transaction = Transaction.builder()
                                 .store(store)
@@ -228,45 +241,350 @@ public class InventoryService {
                 auditLogService.logAction("REMOVE_STOCK", "INVENTORY", inventory.getId(),
                                 String.format("Removed %d units of %s. Reason: %s", quantity, product.getName(),
                                                 reason));
+                cache.evictStoreViews(storeId);
 
                 return InventoryDTO.fromEntity(inventory);
         }
 
-        // @Cacheable(value = "inventory", key = "#storeId + '_' + #pageable.pageNumber
-        // + '_' + #pageable.pageSize")
+        // Resolves the store and checks that the caller owns it or is an admin
+        @Transactional(readOnly = true)
+        public Store getManagedStore(UUID storeId, User currentUser) {
+                Store store = storeRepository.findById(storeId)
+                                .orElseThrow(() -> new RuntimeException("Store not found"));
+
+                if (!store.getOwner().getUser().getId().equals(currentUser.getId())
+                                && currentUser.getRole() != UserRole.ADMIN) {
+                        throw new RuntimeException("You can only manage inventory for your own stores");
+                }
+                return store;
+        }
+
+        // Applies a POS export in one transaction: the store, caller, products and inventory rows are
+        // resolved once up front, and all inventory, transaction and audit writes go out as JDBC batches.
+        // Invalid lines are skipped and reported; valid lines are applied in order.
+        @Transactional
+        public BulkInventoryResultDTO bulkUpdate(UUID storeId, List<BulkInventoryLine> lines) {
+                User currentUser = securityContextUtil.getCurrentUser()
+                                .orElseThrow(() -> new RuntimeException("User not authenticated"));
+                Store store = getManagedStore(storeId, currentUser);
+
+                entityManager.unwrap(Session.class).setJdbcBatchSize(BULK_BATCH_SIZE);
+
+                List<UUID> productIds = lines.stream()
+                                .map(BulkInventoryLine::getProductId)
+                                .filter(Objects::nonNull)
+                                .distinct()
+                                .collect(Collectors.toList());
+
+                Map<UUID, Product> products = productRepository.findAllById(productIds).stream()
+                                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+                // Rows are locked so concurrent single-line sales cannot interleave with the batch. Sales take
+                // the row with the most available stock; stock-ins without an expiry date go to the
+                // non-expiring row, never into a batch the expired-stock purge will delete.
+                Map<UUID, Inventory> rows = new HashMap<>();
+                Map<UUID, Inventory> undatedRows = new HashMap<>();
+                if (!productIds.isEmpty()) {
+                        for (Inventory inventory : inventoryRepository.findByStoreAndProductIdsForUpdate(store,
+                                        productIds)) {
+                                rows.merge(inventory.getProduct().getId(), inventory, InventoryService::moreAvailable);
+                                if (inventory.getExpiryDate() == null) {
+                                        undatedRows.putIfAbsent(inventory.getProduct().getId(), inventory);
+                                }
+                        }
+                }
+
+                List<Transaction> transactions = new ArrayList<>();
+                List<AuditLog> auditLogs = new ArrayList<>();
+                List<BulkInventoryResultDTO.LineError> errors = new ArrayList<>();
+                int stockInLines = 0;
+                int saleLines = 0;
+                LocalDateTime now = LocalDateTime.now();
+
+                for (int i = 0; i < lines.size(); i++) {
+                        BulkInventoryLine line = lines.get(i);
+                        Product product = line.getProductId() != null ? products.get(line.getProductId()) : null;
+                        String error = null;
+
+                        if (line.getType() != TransactionType.STOCK_IN && line.getType() != TransactionType.SALE) {
+                                error = "Type must be STOCK_IN or SALE";
+                        } else if (product == null) {
+                                error = "Product not found";
+                        } else if (line.getQuantity() == null || line.getQuantity() <= 0) {
+                                error = "Quantity must be greater than 0";
+                        }
+
+                        if (error != null) {
+                                errors.add(lineError(i, line, error));
+                                continue;
+                        }
+
+                        Integer quantity = line.getQuantity();
+                        Double unitPrice = product.getPrice().doubleValue();
+                        Inventory inventory;
+
+                        if (line.getType() == TransactionType.STOCK_IN) {
+                                if (line.getExpiryDate() != null) {
+                                        inventory = inventoryRepository.save(Inventory.builder()
+                                                        .store(store)
+                                                        .product(product)
+                                                        .quantity(quantity)
+                                                        .unitPrice(unitPrice)
+                                                        .lastUpdated(now)
+                                                        .expiryDate(line.getExpiryDate())
+                                                        .batchNumber(line.getBatchNumber())
+                                                        .notes(line.getNotes())
+                                                        .build());
+                                } else {
+                                        inventory = undatedRows.get(product.getId());
+                                        if (inventory == null) {
+                                                inventory = inventoryRepository.save(Inventory.builder()
+                                                                .store(store)
+                                                                .product(product)
+                                                                .quantity(0)
+                                                                .unitPrice(unitPrice)
+                                                                .lastUpdated(now)
+                                                                .build());
+                                                undatedRows.put(product.getId(), inventory);
+                                        }
+                                        inventory.setQuantity(inventory.getQuantity() + quantity);
+                                        inventory.setUnitPrice(unitPrice);
+                                        inventory.setLastUpdated(now);
+                                        inventory.setBatchNumber(line.getBatchNumber());
+                                        inventory.setNotes(line.getNotes());
+                                }
+                                // The row may now hold the most available stock for later sale lines
+                                rows.merge(product.getId(), inventory, InventoryService::moreAvailable);
+
+                                auditLogs.add(auditLogService.buildEntry(currentUser, store, "STOCK_IN", "INVENTORY",
+                                                inventory.getId(),
+                                                String.format("Stocked in %d units of %s at $%.2f per unit", quantity,
+                                                                product.getName(), unitPrice)));
+                                stockInLines++;
+                        } else {
+                                inventory = rows.get(product.getId());
+                                if (inventory == null) {
+                                        errors.add(lineError(i, line, "Product not found in inventory"));
+                                        continue;
+                                }
+                                if (inventory.getAvailableQuantity() < quantity) {
+                                        errors.add(lineError(i, line, "Insufficient stock. Available: "
+                                                        + inventory.getAvailableQuantity()));
+                                        continue;
+                                }
+
+                                inventory.setQuantity(inventory.getQuantity() - quantity);
+                                inventory.setLastUpdated(now);
+
+                                auditLogs.add(auditLogService.buildEntry(currentUser, store, "SALE", "INVENTORY",
+                                                inventory.getId(),
+                                                String.format("Sold %d units of %s at $%.2f per unit", quantity,
+                                                                product.getName(), unitPrice)));
+                                saleLines++;
+                        }
+
+                        transactions.add(Transaction.builder()
+                                        .store(store)
+                                        .product(product)
+                                        .type(line.getType())
+                                        .quantity(quantity)
+                                        .unitPrice(unitPrice)
+                                        .totalAmount(quantity * unitPrice)
+                                        .transactionDate(now)
+                                        .expiryDate(line.getExpiryDate())
+                                        .batchNumber(line.getBatchNumber())
+                                        .notes(line.getNotes())
+                                        .supplier(product.getSupplier())
+                                        .build());
+                }
+
+                transactionRepository.saveAll(transactions);
+                auditLogService.logActions(auditLogs);
+                entityManager.flush();
+                cache.evictStoreViews(storeId);
+
+                return BulkInventoryResultDTO.builder()
+                                .totalLines(lines.size())
+                                .appliedLines(stockInLines + saleLines)
+                                .stockInLines(stockInLines)
+                                .saleLines(saleLines)
+                                .errors(errors)
+                                .build();
+        }
+
+        private static Inventory moreAvailable(Inventory a, Inventory b) {
+                return a.getAvailableQuantity() >= b.getAvailableQuantity() ? a : b;
+        }
+
+        private BulkInventoryResultDTO.LineError lineError(int index, BulkInventoryLine line, String message) {
+                return BulkInventoryResultDTO.LineError.builder()
+                                .lineNumber(index + 1)
+                                .productId(line.getProductId())
+                                .message(message)
+                                .build();
+        }
+
+        // Single guarded UPDATE instead of read-check-write, so concurrent sales cannot lose updates.
+        // The persistence context is cleared by the update, so the fresh row is re-read for the caller.
+        private Inventory decrementStock(UUID inventoryId, Integer quantity) {
+                if (quantity == null || quantity <= 0) {
+                        throw new RuntimeException("Quantity must be greater than 0");
+                }
+
+                if (inventoryRepository.decrementQuantity(inventoryId, quantity, LocalDateTime.now()) == 0) {
+                        if (!inventoryRepository.existsById(inventoryId)) {
+                                throw new RuntimeException("Product not found in inventory");
+                        }
+                        throw new RuntimeException("Insufficient stock");
+                }
+
+                return inventoryRepository.findById(inventoryId)
+                                .orElseThrow(() -> new RuntimeException("Product not found in inventory"));
+        }
+
+        // Reserves stock for every cart line with one keyed read and one batched conditional update.
+        // Throws InsufficientStockException with a per-line report if any line cannot be reserved, otherwise
+        // returns the inventory row reserved for each product, which the order keeps to settle it later.
+        @Transactional
+        public Map<UUID, UUID> reserveStock(Store store, List<CartItem> cartItems) {
+                Map<UUID, Integer> requested = new LinkedHashMap<>();
+                Map<UUID, Product> products = new HashMap<>();
+                for (CartItem cartItem : cartItems) {
+                        UUID productId = cartItem.getProduct().getId();
+                        requested.merge(productId, cartItem.getQuantity(), Integer::sum);
+                        products.putIfAbsent(productId, cartItem.getProduct());
+                }
+
+                // Pick the row with the most available stock when a product has several batches
+                Map<UUID, Inventory> rows = new HashMap<>();
+                for (Inventory inventory : inventoryRepository.findByStoreAndProductIds(store, requested.keySet())) {
+                        rows.merge(inventory.getProduct().getId(), inventory,
+                                        (a, b) -> a.getAvailableQuantity() >= b.getAvailableQuantity() ? a : b);
+                }
+
+                List<StockShortageDTO> shortages = new ArrayList<>();
+                List<UUID> productIds = new ArrayList<>();
+                List<UUID> inventoryIds = new ArrayList<>();
+                List<Integer> quantities = new ArrayList<>();
+
+                for (Map.Entry<UUID, Integer> line : requested.entrySet()) {
+                        Inventory inventory = rows.get(line.getKey());
+                        int available = inventory != null ? inventory.getAvailableQuantity() : 0;
+                        if (inventory == null || available < line.getValue()) {
+                                shortages.add(shortage(products.get(line.getKey()), line.getValue(), available));
+                        } else {
+                                productIds.add(line.getKey());
+                                inventoryIds.add(inventory.getId());
+                                quantities.add(line.getValue());
+                        }
+                }
+
+                if (!shortages.isEmpty()) {
+                        throw new InsufficientStockException(shortages);
+                }
+
+                // The WHERE guard re-checks availability, so a concurrent checkout cannot oversell
+                int[] updated = inventoryRepository.reserveQuantities(inventoryIds, quantities);
+                for (int i = 0; i < updated.length; i++) {
+                        if (updated[i] == 0) {
+                                UUID productId = productIds.get(i);
+                                shortages.add(shortage(products.get(productId), quantities.get(i),
+                                                rows.get(productId).getAvailableQuantity()));
+                        }
+                }
+
+                if (!shortages.isEmpty()) {
+                        throw new InsufficientStockException(shortages);
+                }
+                cache.evictStoreViews(store.getId());
+
+                Map<UUID, UUID> reserved = new HashMap<>();
+                for (int i = 0; i < productIds.size(); i++) {
+                        reserved.put(productIds.get(i), inventoryIds.get(i));
+                }
+                return reserved;
+        }
+
+        // Delivery: the reserved units leave the store
+        public void consumeReservedStock(Store store, List<OrderItem> items) {
+                LocalDateTime now = LocalDateTime.now();
+                for (OrderItem item : items) {
+                        UUID inventoryId = reservedRow(store, item);
+                        if (inventoryId == null || inventoryRepository.consumeReserved(inventoryId,
+                                        item.getQuantity(), now) == 0) {
+                                throw new RuntimeException("Reserved stock not found for " + item.getProductName());
+                        }
+                }
+                cache.evictStoreViews(store.getId());
+        }
+
+        // Cancellation: the reserved units become available again. A batch purged since the order was placed
+        // has nothing left to release.
+        public void releaseReservedStock(Store store, List<OrderItem> items) {
+                for (OrderItem item : items) {
+                        UUID inventoryId = reservedRow(store, item);
+                        if (inventoryId != null && inventoryRepository.releaseReserved(inventoryId, item.getQuantity()) == 0
+                                        && inventoryRepository.existsById(inventoryId)) {
+                                throw new RuntimeException("Reserved stock not found for " + item.getProductName());
+                        }
+                }
+                cache.evictStoreViews(store.getId());
+        }
+
+        // Orders placed before the reserved row was recorded fall back to a batch holding enough reserved units
+        private UUID reservedRow(Store store, OrderItem item) {
+                if (item.getReservedInventoryId() != null) {
+                        return item.getReservedInventoryId();
+                }
+                return inventoryRepository.findByStoreAndProductIds(store, List.of(item.getProduct().getId()))
+                                .stream()
+                                .filter(inventory -> inventory.getReservedQuantity() != null
+                                                && inventory.getReservedQuantity() >= item.getQuantity())
+                                .map(Inventory::getId)
+                                .findFirst()
+                                .orElse(null);
+        }
+
+        private StockShortageDTO shortage(Product product, Integer requested, Integer available) {
+                return StockShortageDTO.builder()
+                                .productId(product.getId())
+                                .productName(product.getName())
+                                .requestedQuantity(requested)
+                                .availableQuantity(available)
+                                .build();
+        }
+
+        // The ownership check always runs; only the page query and its count are cached
         public Page<InventoryDTO> getStoreInventory(UUID storeId, Pageable pageable) {
                 Store store = storeRepository.findById(storeId)
                                 .orElseThrow(() -> new RuntimeException("Store not found"));
 
                 // Check if user is store owner or admin
                 UUID currentUserId = securityContextUtil.getCurrentUserId();
-                User currentUser = securityContextUtil.getCurrentUser().get();
-
                 boolean isOwner = store.getOwner().getUser().getId().equals(currentUserId);
-                boolean isAdmin = currentUser.getRole().equals(UserRole.ADMIN);
+                boolean isAdmin = securityContextUtil.getCurrentPrincipal().get().role() == UserRole.ADMIN;
 
                 if (!isOwner && !isAdmin) {
                         throw new RuntimeException("You can only view inventory for your own stores");
                 }
 
-                return inventoryRepository.findAll(
+                CacheName.StoreInventoryKey key = new CacheName.StoreInventoryKey(storeId,
+                                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+                return cache.get(CacheName.STORE_INVENTORY, key, () -> CachedPage.of(inventoryRepository.findAll(
                                 (Specification<Inventory>) (root, query, cb) -> cb.equal(root.get("store"), store),
                                 pageable)
-                                .map(InventoryDTO::fromEntity);
+                                .map(InventoryDTO::fromEntity)))
+                                .toPage(pageable);
         }
 
-        // @Cacheable(value = "inventory", key = "#storeId + '_expiring_' + #before +
-        // '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
         public Page<InventoryDTO> getExpiringStock(UUID storeId, LocalDateTime before, Pageable pageable) {
                 Store store = storeRepository.findById(storeId)
                                 .orElseThrow(() -> new RuntimeException("Store not found"));
 
                 // Check if user is store owner or admin
                 UUID currentUserId = securityContextUtil.getCurrentUserId();
-                User currentUser = securityContextUtil.getCurrentUser().get();
-
                 boolean isOwner = store.getOwner().getUser().getId().equals(currentUserId);
-                boolean isAdmin = currentUser.getRole().equals(UserRole.ADMIN);
+                boolean isAdmin = securityContextUtil.getCurrentPrincipal().get().role() == UserRole.ADMIN;
 
                 if (!isOwner && !isAdmin) {
                         throw new RuntimeException("You can only view expiring inventory for your own stores");
@@ -280,8 +598,6 @@ public class InventoryService {
                                 .map(InventoryDTO::fromEntity);
         }
 
-        // @Cacheable(value = "inventory", key = "#storeId + '_category_' + #categoryId
-        // + '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
         public Page<InventoryDTO> getStoreInventoryByCategory(UUID storeId, UUID categoryId, Pageable pageable) {
                 Store store = storeRepository.findById(storeId)
                                 .orElseThrow(() -> new RuntimeException("Store not found"));
@@ -297,36 +613,4 @@ public class InventoryService {
                                 pageable)
                                 .map(InventoryDTO::fromEntity);
         }
-
-        @Transactional
-        public void removeExpiredStock() {
-                LocalDateTime now = LocalDateTime.now();
-                List<Inventory> expiredInventory = inventoryRepository.findByExpiryDateBefore(now);
-
-                for (Inventory inventory : expiredInventory) {
-                        // Create a transaction record for the expired stock
-                        Transaction transaction = Transaction.builder()
-                                        .store(inventory.getStore())
-                                        .product(inventory.getProduct())
-                                        .type(TransactionType.EXPIRED)
-                                        .quantity(inventory.getQuantity())
-                                        .unitPrice(inventory.getUnitPrice())
-                                        .totalAmount(inventory.getQuantity() * inventory.getUnitPrice())
-                                        .transactionDate(now)
-                                        .expiryDate(inventory.getExpiryDate())
-                                        .batchNumber(inventory.getBatchNumber())
-                                        .notes("Stock expired")
-                                        .supplier(inventory.getProduct().getSupplier()) // Set supplier from product
-                                        .build();
-
-                        transactionRepository.save(transaction);
-
-                        // Delete the expired inventory
-                        inventoryRepository.delete(inventory);
-
-                        auditLogService.logAction("REMOVE_EXPIRED", "INVENTORY", inventory.getId(),
-                                        String.format("Automatically removed %d expired units of %s",
-                                                        inventory.getQuantity(), inventory.getProduct().getName()));
-                }
-        }
 }
@@ -0,0 +1,138 @@
+package Commerce360.service;
+
+import Commerce360.dto.CursorPage;
+import Commerce360.exception.InvalidQueryParameterException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.util.ClassUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Opaque continuation tokens for Spring Data keyset scrolling. A token holds the sort key values of the last
+// row returned, typed so the next query binds them exactly as the entity declares them.
+public final class KeysetCursor {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Only keyset positions can be encoded");
+        }
+        StringBuilder token = new StringBuilder();
+        for (Map.Entry<String, Object> key : keyset.getKeys().entrySet()) {
+            token.append(key.getKey()).append('=').append(encodeValue(key.getValue())).append('\n');
+        }
+        return ENCODER.encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Requested page size clamped to 1..MAX_PAGE_SIZE
+    public static int limit(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // One scrolled window as a CursorPage whose nextCursor continues after the window's last row
+    public static <E, T> CursorPage<T> page(Window<E> window, Function<E, T> mapper) {
+        return CursorPage.<T>builder()
+                .content(window.map(mapper).getContent())
+                .size(window.size())
+                .hasNext(window.hasNext())
+                .nextCursor(window.hasNext() ? encode(window.positionAt(window.size() - 1)) : null)
+                .build();
+    }
+
+    // A missing cursor starts at the first row. The token comes from the client, so it must hold exactly the
+    // sort's properties, each non-null and of the type the entity declares; anything else is a 400.
+    public static KeysetScrollPosition decode(String cursor, Sort sort, Class<?> domainType) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (String line : new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split("\n")) {
+                int eq = line.indexOf('=');
+                keys.put(line.substring(0, eq), decodeValue(line.substring(eq + 1)));
+            }
+            if (keys.size() != sort.stream().count()) {
+                throw new IllegalArgumentException("Cursor keys do not match the sort");
+            }
+            for (Sort.Order order : sort) {
+                Object value = keys.get(order.getProperty());
+                Class<?> type = PropertyPath.from(order.getProperty(), domainType).getLeafType();
+                if (value == null || !ClassUtils.isAssignableValue(type, value)) {
+                    throw new IllegalArgumentException("Invalid cursor value for " + order.getProperty());
+                }
+            }
+            return ScrollPosition.forward(keys);
+        } catch (RuntimeException e) {
+            throw new InvalidQueryParameterException("Invalid cursor");
+        }
+    }
+
+    private static String encodeValue(Object value) {
+        if (value == null) {
+            return "n:";
+        }
+        if (value instanceof LocalDateTime time) {
+            return "t:" + time;
+        }
+        if (value instanceof UUID id) {
+            return "u:" + id;
+        }
+        if (value instanceof Long number) {
+            return "l:" + number;
+        }
+        if (value instanceof Integer number) {
+            return "i:" + number;
+        }
+        if (value instanceof Double number) {
+            return "d:" + number;
+        }
+        if (value instanceof BigDecimal number) {
+            return "b:" + number.toPlainString();
+        }
+        if (value instanceof String text) {
+            return "s:" + ENCODER.encodeToString(text.getBytes(StandardCharsets.UTF_8));
+        }
+        throw new IllegalArgumentException("Unsupported keyset value type: " + value.getClass().getName());
+    }
+
+    private static Object decodeValue(String value) {
+        String raw = value.substring(2);
+        switch (value.substring(0, 2)) {
+            case "n:":
+                return null;
+            case "t:":
+                return LocalDateTime.parse(raw);
+            case "u:":
+                return UUID.fromString(raw);
+            case "l:":
+                return Long.valueOf(raw);
+            case "i:":
+                return Integer.valueOf(raw);
+            case "d:":
+                return Double.valueOf(raw);
+            case "b:":
+                return new BigDecimal(raw);
+            case "s:":
+                return new String(DECODER.decode(raw), StandardCharsets.UTF_8);
+            default:
+                throw new IllegalArgumentException("Unknown keyset value type: " + value);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package Commerce360.service;
+
+import Commerce360.config.CacheName;
+import Commerce360.config.CacheSettings;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Read-through cache with a bounded in-process tier in front of an optional shared RemoteCacheStore
+// (cache.remote=redis), whose evictions reach every replica's near tier. Without a RemoteCacheStore bean, or
+// while it is failing, the near tier works alone and keeps entries for the cache's full TTL; an eviction then
+// reaches this replica only, so other replicas serve their copy until the TTL runs out. Evictions called
+// inside a transaction run after it commits, so a rolled-back change never evicts and a reader cannot
+// re-cache the old row before the new one is visible.
+@Service
+public class LocalCache {
+    private static final Logger logger = LoggerFactory.getLogger(LocalCache.class);
+
+    private record Entry(Object value, long expiresAtNanos) {
+    }
+
+    // Least recently used first; the eldest entry is dropped once the region holds maxEntries
+    private static final class LruMap extends LinkedHashMap<String, LocalCache.Entry> {
+        private final int maxEntries;
+
+        LruMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LocalCache.Entry> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    private final class Region {
+        private final Map<String, Entry> entries;
+        private final String name;
+        private final JavaType type;
+        private final Duration ttl;
+        private final long nearTtlNanos;
+        private final int maxEntries;
+        private final Counter nearHits;
+        private final Counter remoteHits;
+        private final Counter misses;
+
+        Region(CacheName<?, ?> cache) {
+            CacheSettings.Spec spec = settings.getSpecs().getOrDefault(cache.getName(), new CacheSettings.Spec());
+            this.name = cache.getName();
+            this.type = objectMapper.getTypeFactory().constructType(cache.getValueType());
+            this.ttl = spec.getTtl() != null ? spec.getTtl() : cache.getDefaultTtl();
+            Duration nearTtl = spec.getNearTtl() != null ? spec.getNearTtl() : settings.getNearTtl();
+            this.nearTtlNanos = Math.min(nearTtl.toNanos(), ttl.toNanos());
+            this.maxEntries = spec.getMaxEntries() != null ? spec.getMaxEntries() : cache.getDefaultMaxEntries();
+            this.entries = Collections.synchronizedMap(new LruMap(maxEntries));
+            this.nearHits = counter("near_hit");
+            this.remoteHits = counter("remote_hit");
+            this.misses = counter("miss");
+            Gauge.builder("cache.near.size", entries, Map::size)
+                    .tag("cache", name)
+                    .register(registry);
+        }
+
+        private Counter counter(String result) {
+            return Counter.builder("cache.gets")
+                    .tag("cache", name)
+                    .tag("result", result)
+                    .register(registry);
+        }
+    }
+
+    private final ObjectProvider<RemoteCacheStore> remoteStore;
+    private final ObjectMapper objectMapper;
+    private final CacheSettings settings;
+    private final MeterRegistry registry;
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+    private volatile long remoteDisabledUntil;
+
+    public LocalCache(ObjectProvider<RemoteCacheStore> remoteStore, ObjectMapper objectMapper,
+            CacheSettings settings, MeterRegistry registry) {
+        this.remoteStore = remoteStore;
+        this.objectMapper = objectMapper;
+        this.settings = settings;
+        this.registry = registry;
+        this.remoteDisabledUntil = System.nanoTime();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        RemoteCacheStore remote = remoteStore.getIfAvailable();
+        if (remote != null) {
+            try {
+                remote.onInvalidation(this::applyRemoteInvalidation);
+            } catch (Exception e) {
+                disableRemote(e);
+            }
+        } else {
+            logger.info("No shared cache store configured; caching in process only");
+        }
+    }
+
+    // Null results are not cached, so a missing row is looked up again next time
+    @SuppressWarnings("unchecked")
+    public <K, V> V get(CacheName<K, V> cache, K key, Supplier<V> loader) {
+        Region region = region(cache);
+        String renderedKey = cache.render(key);
+        long now = System.nanoTime();
+
+        Entry entry = region.entries.get(renderedKey);
+        if (entry != null && now - entry.expiresAtNanos < 0) {
+            region.nearHits.increment();
+            return (V) entry.value;
+        }
+
+        RemoteCacheStore remote = remote();
+        if (remote != null) {
+            try {
+                byte[] bytes = remote.get(remoteKey(region, renderedKey));
+                if (bytes != null) {
+                    V value = objectMapper.readValue(bytes, region.type);
+                    putNear(region, renderedKey, value, now + region.nearTtlNanos);
+                    region.remoteHits.increment();
+                    return value;
+                }
+            } catch (Exception e) {
+                disableRemote(e);
+                remote = null;
+            }
+        }
+
+        region.misses.increment();
+        V value = loader.get();
+        if (value == null) {
+            return null;
+        }
+        putNear(region, renderedKey, value, now + (remote != null ? region.nearTtlNanos : region.ttl.toNanos()));
+        if (remote != null) {
+            try {
+                remote.put(remoteKey(region, renderedKey), objectMapper.writeValueAsBytes(value), region.ttl);
+            } catch (Exception e) {
+                disableRemote(e);
+            }
+        }
+        return value;
+    }
+
+    public <K, V> void evict(CacheName<K, V> cache, K key) {
+        String renderedKey = cache.render(key);
+        afterCommit(() -> {
+            Region region = region(cache);
+            region.entries.remove(renderedKey);
+            RemoteCacheStore remote = remote();
+            if (remote != null) {
+                try {
+                    remote.evict(remoteKey(region, renderedKey));
+                } catch (Exception e) {
+                    disableRemote(e);
+                }
+            }
+        });
+    }
+
+    // Evicts every key of the cache in the given scope, e.g. all inventory pages of one store
+    public void evictScope(CacheName<?, ?> cache, Object scope) {
+        String prefix = cache.scopePrefix(scope);
+        afterCommit(() -> {
+            Region region = region(cache);
+            removePrefix(region, prefix);
+            RemoteCacheStore remote = remote();
+            if (remote != null) {
+                try {
+                    remote.evictPrefix(remoteKey(region, prefix));
+                } catch (Exception e) {
+                    disableRemote(e);
+                }
+            }
+        });
+    }
+
+    // Cached inventory pages and reports of one store. Every path that changes the store's stock calls this.
+    public void evictStoreViews(UUID storeId) {
+        evictScope(CacheName.STORE_INVENTORY, storeId);
+        evictScope(CacheName.REPORTS, storeId);
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    // Invalidations published by other replicas; only the near tier needs to drop them
+    private void applyRemoteInvalidation(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        Region region = regions.get(message.substring(0, separator));
+        if (region == null) {
+            return;
+        }
+        String key = message.substring(separator + 1);
+        if (key.endsWith("*")) {
+            String prefix = key.substring(0, key.length() - 1);
+            removePrefix(region, prefix);
+        } else {
+            region.entries.remove(key);
+        }
+    }
+
+    private Region region(CacheName<?, ?> cache) {
+        return regions.computeIfAbsent(cache.getName(), name -> new Region(cache));
+    }
+
+    private static String remoteKey(Region region, String renderedKey) {
+        return region.name + ":" + renderedKey;
+    }
+
+    private static void putNear(Region region, String key, Object value, long expiresAtNanos) {
+        region.entries.put(key, new Entry(value, expiresAtNanos));
+    }
+
+    // Scope evictions are rare next to reads, so a scan of the region under its lock is acceptable
+    private static void removePrefix(Region region, String prefix) {
+        synchronized (region.entries) {
+            region.entries.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    private RemoteCacheStore remote() {
+        if (System.nanoTime() - remoteDisabledUntil < 0) {
+            return null;
+        }
+        return remoteStore.getIfAvailable();
+    }
+
+    private void disableRemote(Exception e) {
+        remoteDisabledUntil = System.nanoTime() + Duration.ofMillis(settings.getRemoteRetryMillis()).toNanos();
+        logger.warn("Shared cache unavailable, using the near cache only for {} ms: {}",
+                settings.getRemoteRetryMillis(), e.getMessage());
+    }
+}
@@ -1,5 +1,6 @@
 package Commerce360.service;
 
+import Commerce360.dto.CursorPage;
 import Commerce360.dto.OrderDTO;
 import Commerce360.dto.StoreRatingDTO;
 import Commerce360.entity.*;
@@ -8,17 +9,23 @@ import Commerce360.security.SecurityContextUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class OrderService {
 
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("orderDate"), Sort.Order.desc("id"));
+
     @Autowired
     private OrderRepository orderRepository;
 
@@ -40,6 +47,9 @@ public class OrderService {
     @Autowired
     private InventoryRepository inventoryRepository;
 
+    @Autowired
+    private InventoryService inventoryService;
+
     @Autowired
     private TransactionRepository transactionRepository;
 
@@ -71,17 +81,8 @@ public class OrderService {
             throw new RuntimeException("Cart is empty");
         }
 
-        // Validate and reserve inventory
-        for (CartItem cartItem : cart.getCartItems()) {
-            Inventory inventory = inventoryRepository
-                    .findByStoreAndProduct(cart.getStore(), cartItem.getProduct())
-                    .orElseThrow(() -> new RuntimeException("Product not available: " + cartItem.getProduct().getName()));
-
-            if (inventory.getAvailableQuantity() < cartItem.getQuantity()) {
-                throw new RuntimeException("Insufficient stock for: " + cartItem.getProduct().getName() +
-                        ". Available: " + inventory.getAvailableQuantity());
-            }
-        }
+        // Validate and reserve inventory for all lines in one round trip
+        Map<UUID, UUID> reservedRows = inventoryService.reserveStock(cart.getStore(), cart.getCartItems());
 
         // Generate order number
         String orderNumber = "ORD-" + System.currentTimeMillis();
@@ -106,7 +107,7 @@ public class OrderService {
 
         BigDecimal totalAmount = BigDecimal.ZERO;
 
-        // Create order items and reserve inventory
+        // Create order items
         for (CartItem cartItem : cart.getCartItems()) {
             BigDecimal itemTotal = cartItem.getUnitPrice()
                     .multiply(BigDecimal.valueOf(cartItem.getQuantity()));
@@ -120,16 +121,10 @@ public class OrderService {
                     .totalPrice(itemTotal)
                     .productName(cartItem.getProduct().getName())
                     .productSku(cartItem.getProduct().getSku())
+                    .reservedInventoryId(reservedRows.get(cartItem.getProduct().getId()))
                     .build();
 
             order.getOrderItems().add(orderItem);
-
-            // Reserve inventory
-            Inventory inventory = inventoryRepository
-                    .findByStoreAndProduct(cart.getStore(), cartItem.getProduct())
-                    .get();
-            inventory.setReservedQuantity(inventory.getReservedQuantity() + cartItem.getQuantity());
-            inventoryRepository.save(inventory);
         }
 
         order.setTotalAmount(totalAmount);
@@ -226,17 +221,10 @@ public class OrderService {
             throw new RuntimeException("Only shipped orders can be delivered");
         }
 
-        // Update inventory - reduce actual stock and reserved quantity
-        for (OrderItem item : order.getOrderItems()) {
-            Inventory inventory = inventoryRepository
-                    .findByStoreAndProduct(order.getStore(), item.getProduct())
-                    .orElseThrow(() -> new RuntimeException("Inventory not found"));
-
-            inventory.setQuantity(inventory.getQuantity() - item.getQuantity());
-            inventory.setReservedQuantity(inventory.getReservedQuantity() - item.getQuantity());
-            inventory.setLastUpdated(LocalDateTime.now());
-            inventoryRepository.save(inventory);
+        // Reduce actual stock and reserved quantity on the rows the order reserved
+        inventoryService.consumeReservedStock(order.getStore(), order.getOrderItems());
 
+        for (OrderItem item : order.getOrderItems()) {
             // Create transaction record
             Transaction transaction = Transaction.builder()
                     .store(order.getStore())
@@ -282,14 +270,7 @@ public class OrderService {
         }
 
         // Release reserved inventory
-        for (OrderItem item : order.getOrderItems()) {
-            Inventory inventory = inventoryRepository
-                    .findByStoreAndProduct(order.getStore(), item.getProduct())
-                    .orElseThrow(() -> new RuntimeException("Inventory not found"));
-
-            inventory.setReservedQuantity(inventory.getReservedQuantity() - item.getQuantity());
-            inventoryRepository.save(inventory);
-        }
+        inventoryService.releaseReservedStock(order.getStore(), order.getOrderItems());
 
         order.setStatus(OrderStatus.CANCELLED);
         order.setNotes(order.getNotes() != null ? order.getNotes() + "\nCancellation reason: " + reason : "Cancellation reason: " + reason);
@@ -299,6 +280,7 @@ public class OrderService {
         return OrderDTO.fromEntity(order);
     }
 
+    @Transactional(readOnly = true)
     public Page<OrderDTO> getCustomerOrders(UUID customerId, Pageable pageable) {
         Customer customer = customerRepository.findById(customerId)
                 .orElseThrow(() -> new RuntimeException("Customer not found"));
@@ -307,6 +289,7 @@ public class OrderService {
                 .map(OrderDTO::fromEntity);
     }
 
+    @Transactional(readOnly = true)
     public Page<OrderDTO> getStoreOrders(UUID storeId, OrderStatus status, Pageable pageable) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new RuntimeException("Store not found"));
@@ -320,6 +303,39 @@ public class OrderService {
         }
     }
 
+    // Cursor-paginated variants of the listings above: newest first, no COUNT(*) and no OFFSET, so every page
+    // costs the same as the first
+    @Transactional(readOnly = true)
+    public CursorPage<OrderDTO> scrollCustomerOrders(UUID customerId, String cursor, int size) {
+        if (!customerRepository.existsById(customerId)) {
+            throw new RuntimeException("Customer not found");
+        }
+        return scroll((root, query, cb) -> cb.equal(root.get("customer").get("id"), customerId), cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<OrderDTO> scrollStoreOrders(UUID storeId, OrderStatus status, String cursor, int size) {
+        if (!storeRepository.existsById(storeId)) {
+            throw new RuntimeException("Store not found");
+        }
+        Specification<Order> filter = (root, query, cb) -> cb.equal(root.get("store").get("id"), storeId);
+        if (status != null) {
+            filter = filter.and((root, query, cb) -> cb.equal(root.get("status"), status));
+        }
+        return scroll(filter, cursor, size);
+    }
+
+    private CursorPage<OrderDTO> scroll(Specification<Order> filter, String cursor, int size) {
+        // Every DTO reads the customer's user, the store and the payment, so they are fetched with the page
+        Window<Order> window = orderRepository.findBy(filter, query -> query
+                .sortBy(NEWEST_FIRST)
+                .project("customer.user", "store", "payment")
+                .limit(KeysetCursor.limit(size))
+                .scroll(KeysetCursor.decode(cursor, NEWEST_FIRST, Order.class)));
+        return KeysetCursor.page(window, OrderDTO::fromEntity);
+    }
+
+    @Transactional(readOnly = true)
     public OrderDTO getOrder(UUID orderId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
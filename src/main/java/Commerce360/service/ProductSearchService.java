@@ -0,0 +1,219 @@
+package Commerce360.service;
+
+import Commerce360.dto.ProductDTO;
+import Commerce360.dto.ProductSearchResultDTO;
+import Commerce360.entity.Product;
+import Commerce360.repository.ProductRepository;
+import Commerce360.repository.ProductSearchOperations.SearchCriteria;
+import Commerce360.repository.ProductSearchOperations.SearchHit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Full-text product search on PostgreSQL. products.search_vector is a generated column, so PostgreSQL
+// recomputes it on every insert and update and the index cannot drift from the catalog whichever code path
+// writes the row. A trigram index on lower(name) adds typo tolerance. On other databases, or until the index
+// exists, search falls back to the old LIKE scan without ranking or facets.
+@Service
+@Slf4j
+public class ProductSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_FACETS = 50;
+    private static final int MAX_TERMS = 8;
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final String INDEX_JOB = "products.search-index";
+    private static final Duration INDEX_LEASE = Duration.ofMinutes(30);
+    private static final long AVAILABILITY_RECHECK_MILLIS = 60_000;
+
+    // 'simple' keeps words unstemmed, so SKUs and brand names match exactly and prefixes behave predictably.
+    // Weights rank a hit in the name or SKU above brand, category and description.
+    private static final List<String> INDEX_DDL = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "ALTER TABLE products ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS ("
+                    + "setweight(to_tsvector('simple', coalesce(name, '')), 'A') || "
+                    + "setweight(to_tsvector('simple', coalesce(sku, '')), 'A') || "
+                    + "setweight(to_tsvector('simple', coalesce(brand, '')), 'B') || "
+                    + "setweight(to_tsvector('simple', coalesce(category, '')), 'C') || "
+                    + "setweight(to_tsvector('simple', coalesce(description, '')), 'D')) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_products_search_vector ON products USING gin (search_vector)",
+            "CREATE INDEX IF NOT EXISTS idx_products_name_trgm ON products USING gin (lower(name) gin_trgm_ops)");
+
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    private Boolean postgres;
+    private volatile boolean available;
+    private volatile long nextAvailabilityCheck;
+
+    public ProductSearchService(ProductRepository productRepository, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, SchedulerLeaseService schedulerLeaseService) {
+        this.productRepository = productRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.schedulerLeaseService = schedulerLeaseService;
+    }
+
+    // Idempotent; only one replica builds the index, the others pick it up through isAvailable()
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareIndex() {
+        if (!isPostgres()) {
+            log.info("Full-text product search needs PostgreSQL; using LIKE search");
+            return;
+        }
+        try {
+            schedulerLeaseService.runExclusively(INDEX_JOB, INDEX_LEASE, () -> transactionTemplate
+                    .executeWithoutResult(status -> INDEX_DDL.forEach(jdbcTemplate::execute)));
+        } catch (Exception e) {
+            log.error("Error preparing the product search index, using LIKE search: {}", e.getMessage(), e);
+        }
+        nextAvailabilityCheck = 0;
+    }
+
+    public boolean isAvailable() {
+        if (available || !isPostgres()) {
+            return available;
+        }
+        long now = System.currentTimeMillis();
+        if (now < nextAvailabilityCheck) {
+            return false;
+        }
+        nextAvailabilityCheck = now + AVAILABILITY_RECHECK_MILLIS;
+        Integer indexes = jdbcTemplate.queryForObject("SELECT count(*) FROM pg_indexes WHERE tablename = 'products' "
+                + "AND indexname IN ('idx_products_search_vector', 'idx_products_name_trgm')", Integer.class);
+        available = indexes != null && indexes == 2;
+        return available;
+    }
+
+    @Transactional(readOnly = true)
+    public ProductSearchResultDTO search(String query, String category, String brand, int page, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(Math.max(page, 0), limit);
+        List<String> terms = terms(query);
+        String categoryFilter = blankToNull(category);
+        String brandFilter = blankToNull(brand);
+
+        if (terms.isEmpty()) {
+            return result(Page.empty(pageable), Map.of(), Map.of());
+        }
+        if (!isAvailable()) {
+            Page<Product> products = productRepository.findAll(
+                    likeSpec(query, categoryFilter, brandFilter), pageable);
+            return result(products, Map.of(), Map.of());
+        }
+
+        SearchCriteria criteria = new SearchCriteria(terms, categoryFilter, brandFilter, null);
+        return result(rankedPage(criteria, pageable),
+                productRepository.categoryFacets(criteria, MAX_FACETS),
+                productRepository.brandFacets(criteria, MAX_FACETS));
+    }
+
+    // Ranked matches in the Page shape of the older search endpoints. Callers check isAvailable() first.
+    @Transactional(readOnly = true)
+    public Page<Product> searchPage(String query, String category, UUID supplierId, Pageable pageable) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return rankedPage(new SearchCriteria(terms, blankToNull(category), null, supplierId), pageable);
+    }
+
+    private Page<Product> rankedPage(SearchCriteria criteria, Pageable pageable) {
+        List<SearchHit> hits = productRepository.searchRanked(criteria, pageable.getOffset(),
+                pageable.getPageSize());
+        if (hits.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, pageable.getOffset() == 0 ? 0
+                    : productRepository.countMatches(criteria));
+        }
+
+        // Only count when the page is full; a short page already tells us the total
+        long total = hits.size() < pageable.getPageSize()
+                ? pageable.getOffset() + hits.size()
+                : productRepository.countMatches(criteria);
+
+        Map<UUID, Product> products = productRepository
+                .findWithSupplierByIdIn(hits.stream().map(SearchHit::productId).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> ranked = hits.stream()
+                .map(hit -> products.get(hit.productId()))
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(ranked, pageable, total);
+    }
+
+    // Lower-cased words of the query; punctuation separates words and never reaches the tsquery
+    private static List<String> terms(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        return Arrays.stream(NON_WORD.split(query.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+    }
+
+    private static Specification<Product> likeSpec(String query, String category, String brand) {
+        String pattern = "%" + query.trim().toLowerCase() + "%";
+        Specification<Product> spec = (root, q, cb) -> cb.or(
+                cb.like(cb.lower(root.get("name")), pattern),
+                cb.like(cb.lower(root.get("sku")), pattern));
+        if (category != null) {
+            spec = spec.and((root, q, cb) -> cb.equal(root.get("category"), category));
+        }
+        if (brand != null) {
+            spec = spec.and((root, q, cb) -> cb.equal(root.get("brand"), brand));
+        }
+        return spec;
+    }
+
+    private static ProductSearchResultDTO result(Page<Product> products, Map<String, Long> categoryFacets,
+            Map<String, Long> brandFacets) {
+        return ProductSearchResultDTO.builder()
+                .content(products.map(ProductDTO::fromEntity).getContent())
+                .page(products.getNumber())
+                .size(products.getSize())
+                .totalElements(products.getTotalElements())
+                .categoryFacets(categoryFacets)
+                .brandFacets(brandFacets)
+                .build();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgresql"));
+        }
+        return postgres;
+    }
+}
@@ -1,5 +1,8 @@
 package Commerce360.service;
 
+import Commerce360.config.CacheName;
+import Commerce360.dto.CursorPage;
+import Commerce360.dto.ProductDTO;
 import Commerce360.entity.Product;
 import Commerce360.entity.Supplier;
 import Commerce360.repository.ProductRepository;
@@ -7,10 +10,15 @@ import Commerce360.repository.SupplierRepository;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 //import java.util.List;
 import java.util.Optional;
@@ -18,26 +26,72 @@ import java.util.UUID;
 
 @Service
 public class ProductService {
+    private static final Sort BY_ID = Sort.by("id");
+
     @Autowired
     private final ProductRepository productRepository;
 
     @Autowired
     private final SupplierRepository supplierRepository;
 
-    public ProductService(ProductRepository productRepository, SupplierRepository supplierRepository) {
+    @Autowired
+    private final LocalCache cache;
+
+    @Autowired
+    private final ProductSearchService productSearchService;
+
+    @Autowired
+    private final CatalogSnapshotService catalogSnapshotService;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ProductService(ProductRepository productRepository, SupplierRepository supplierRepository,
+            LocalCache cache, ProductSearchService productSearchService,
+            CatalogSnapshotService catalogSnapshotService, PlatformTransactionManager transactionManager) {
         this.productRepository = productRepository;
         this.supplierRepository = supplierRepository;
+        this.cache = cache;
+        this.productSearchService = productSearchService;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // Browsing pages come from the catalog snapshot while it is fresh, without touching the database.
+    // No @Transactional here: that would take a connection even when the snapshot answers.
+    public Page<ProductDTO> getAllProducts(Pageable pageable) {
+        return catalogSnapshotService.page(null, null, pageable)
+                .orElseGet(() -> readOnlyTransaction.execute(status -> productRepository
+                        .findAll(idOrderIfUnsorted(pageable))
+                        .map(ProductDTO::fromEntity)));
     }
 
-    public Page<Product> getAllProducts(Pageable pageable) {
-        return productRepository.findAll(pageable);
+    public Page<ProductDTO> getProductsByCategory(String category, Pageable pageable) {
+        return catalogSnapshotService.page(category, null, pageable)
+                .orElseGet(() -> readOnlyTransaction.execute(status -> productRepository
+                        .findByCategory(category, idOrderIfUnsorted(pageable))
+                        .map(ProductDTO::fromEntity)));
     }
 
-    public Page<Product> getProductsByCategory(String category, Pageable pageable) {
-        return productRepository.findByCategory(category, pageable);
+    // Cursor-paginated catalog in id order, optionally within one category; no COUNT(*) and no OFFSET
+    @Transactional(readOnly = true)
+    public CursorPage<ProductDTO> scrollProducts(String category, String cursor, int size) {
+        Specification<Product> filter = category != null && !category.isEmpty()
+                ? (root, query, cb) -> cb.equal(root.get("category"), category)
+                : Specification.where(null);
+        Window<Product> window = productRepository.findBy(filter, query -> query
+                .sortBy(BY_ID)
+                .project("supplier.user")
+                .limit(KeysetCursor.limit(size))
+                .scroll(KeysetCursor.decode(cursor, BY_ID, Product.class)));
+        return KeysetCursor.page(window, ProductDTO::fromEntity);
     }
 
+    // Unsorted searches go through the full-text index, ranked by relevance; an explicit sort keeps the LIKE scan
     public Page<Product> searchProducts(String query, Pageable pageable) {
+        if (pageable.getSort().isUnsorted() && productSearchService.isAvailable()) {
+            return productSearchService.searchPage(query, null, null, pageable);
+        }
         return productRepository.findByNameContainingIgnoreCaseOrSkuContainingIgnoreCase(query, query, pageable);
     }
 
@@ -49,8 +103,44 @@ public class ProductService {
         return productRepository.findBySupplier(supplier.get(), pageable);
     }
 
-    public Page<Product> getProductsWithFilters(String category, UUID supplierId, String searchQuery,
+    public Page<ProductDTO> getProductsWithFilters(String category, UUID supplierId, String searchQuery,
             Pageable pageable) {
+        if (searchQuery == null || searchQuery.isEmpty()) {
+            Optional<Page<ProductDTO>> snapshotPage = catalogSnapshotService.page(
+                    category != null && !category.isEmpty() ? category : null, supplierId, pageable);
+            if (snapshotPage.isPresent()) {
+                return snapshotPage.get();
+            }
+        }
+        Pageable databasePageable = searchQuery == null || searchQuery.isEmpty()
+                ? idOrderIfUnsorted(pageable)
+                : pageable;
+        return readOnlyTransaction.execute(status -> findWithFilters(category, supplierId, searchQuery,
+                databasePageable).map(ProductDTO::fromEntity));
+    }
+
+    // The snapshot serves unsorted pages in id order; without an ORDER BY the database could return rows in
+    // any order, repeating or skipping products between pages and between the two paths
+    private static Pageable idOrderIfUnsorted(Pageable pageable) {
+        if (pageable.getSort().isSorted()) {
+            return pageable;
+        }
+        return pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), BY_ID)
+                : Pageable.unpaged(BY_ID);
+    }
+
+    private Page<Product> findWithFilters(String category, UUID supplierId, String searchQuery,
+            Pageable pageable) {
+        if (searchQuery != null && !searchQuery.isEmpty() && pageable.getSort().isUnsorted()
+                && productSearchService.isAvailable()) {
+            // An unknown supplier is ignored, as in the LIKE path below
+            UUID existingSupplierId = supplierId != null && supplierRepository.existsById(supplierId)
+                    ? supplierId
+                    : null;
+            return productSearchService.searchPage(searchQuery, category, existingSupplierId, pageable);
+        }
+
         Specification<Product> spec = Specification.where(null);
 
         if (category != null && !category.isEmpty()) {
@@ -77,6 +167,16 @@ public class ProductService {
         return productRepository.findById(id);
     }
 
+    // Detail view for the product endpoint: the catalog snapshot first, then the product cache, which
+    // updateProduct and deleteProduct evict
+    public Optional<ProductDTO> getProductDetails(UUID id) {
+        return catalogSnapshotService.findById(id)
+                .or(() -> Optional.ofNullable(cache.get(CacheName.PRODUCT, id,
+                        () -> readOnlyTransaction.execute(status -> productRepository.findById(id)
+                                .map(ProductDTO::fromEntity)
+                                .orElse(null)))));
+    }
+
     public Optional<Product> getProductBySku(String sku) {
         return productRepository.findBySku(sku);
     }
@@ -91,7 +191,9 @@ public class ProductService {
             product.setSupplier(supplier);
         }
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        catalogSnapshotService.invalidate();
+        return saved;
     }
 
     @Transactional
@@ -117,7 +219,10 @@ public class ProductService {
             existingProduct.setSupplier(supplier);
         }
 
-        return Optional.of(productRepository.save(existingProduct));
+        Product saved = productRepository.save(existingProduct);
+        cache.evict(CacheName.PRODUCT, id);
+        catalogSnapshotService.invalidate();
+        return Optional.of(saved);
     }
 
     @Transactional
@@ -126,6 +231,8 @@ public class ProductService {
             return false;
         }
         productRepository.deleteById(id);
+        cache.evict(CacheName.PRODUCT, id);
+        catalogSnapshotService.invalidate();
         return true;
     }
 }
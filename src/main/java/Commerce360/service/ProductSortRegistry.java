@@ -0,0 +1,49 @@
+package Commerce360.service;
+
+import Commerce360.exception.InvalidQueryParameterException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+import java.util.Set;
+
+// Public sort keys of the product listings and the entity properties behind them. Each key is backed by an
+// index on Product, with id as a trailing tie-breaker where the property is not unique, so a sorted page is
+// read in index order instead of sorting the table. Anything not listed here is rejected.
+public final class ProductSortRegistry {
+
+    // unique: the property alone orders rows completely, so no id tie-breaker is appended
+    private record Key(String property, boolean unique) {
+    }
+
+    private static final Map<String, Key> KEYS = Map.of(
+            "name", new Key("name", false),
+            "brand", new Key("brand", false),
+            "price", new Key("price", false),
+            "category", new Key("category", false),
+            "sku", new Key("sku", true),
+            "id", new Key("id", true));
+
+    private ProductSortRegistry() {
+    }
+
+    public static Set<String> keys() {
+        return KEYS.keySet();
+    }
+
+    // A missing key keeps the listing unsorted; the direction defaults to ascending
+    public static Sort resolve(String sortBy, String sortDirection) {
+        if (sortBy == null || sortBy.isBlank()) {
+            return Sort.unsorted();
+        }
+        Key key = KEYS.get(sortBy);
+        if (key == null) {
+            throw new InvalidQueryParameterException("Unsupported sort key: " + sortBy
+                    + ". Allowed: " + String.join(", ", keys().stream().sorted().toList()));
+        }
+        Sort.Direction direction = sortDirection != null && sortDirection.equalsIgnoreCase("desc")
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, key.property());
+        return key.unique() ? sort : sort.and(Sort.by(direction, "id"));
+    }
+}
@@ -1,6 +1,7 @@
 package Commerce360.service;
 
 import Commerce360.dto.CreatePurchaseOrderRequest;
+import Commerce360.dto.CursorPage;
 import Commerce360.dto.PurchaseOrderDTO;
 import Commerce360.entity.*;
 import Commerce360.repository.*;
@@ -8,6 +9,9 @@ import Commerce360.security.SecurityContextUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +23,8 @@ import java.util.UUID;
 @Service
 public class PurchaseOrderService {
 
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("orderDate"), Sort.Order.desc("id"));
+
     @Autowired
     private PurchaseOrderRepository purchaseOrderRepository;
 
@@ -46,6 +52,9 @@ public class PurchaseOrderService {
     @Autowired
     private SecurityContextUtil securityContextUtil;
 
+    @Autowired
+    private LocalCache cache;
+
     @Transactional
     public PurchaseOrderDTO createPurchaseOrder(CreatePurchaseOrderRequest request) {
         Store store = storeRepository.findById(request.getStoreId())
@@ -292,6 +301,7 @@ public class PurchaseOrderService {
             // Update received quantity
             item.setReceivedQuantity(item.getQuantity());
         }
+        cache.evictStoreViews(purchaseOrder.getStore().getId());
 
         purchaseOrder.setStatus(PurchaseOrderStatus.DELIVERED);
         purchaseOrder.setDeliveredAt(LocalDateTime.now());
@@ -315,6 +325,7 @@ public class PurchaseOrderService {
         return PurchaseOrderDTO.fromEntity(purchaseOrder);
     }
 
+    @Transactional(readOnly = true)
     public Page<PurchaseOrderDTO> getPurchaseOrdersByStore(UUID storeId, PurchaseOrderStatus status,
             Pageable pageable) {
         Store store = storeRepository.findById(storeId)
@@ -330,6 +341,27 @@ public class PurchaseOrderService {
         return orders.map(PurchaseOrderDTO::fromEntity);
     }
 
+    // Cursor-paginated variant of getPurchaseOrdersByStore: newest first, no COUNT(*) and no OFFSET
+    @Transactional(readOnly = true)
+    public CursorPage<PurchaseOrderDTO> scrollPurchaseOrdersByStore(UUID storeId, PurchaseOrderStatus status,
+            String cursor, int size) {
+        if (!storeRepository.existsById(storeId)) {
+            throw new RuntimeException("Store not found");
+        }
+        Specification<PurchaseOrder> filter = (root, query, cb) -> cb.equal(root.get("store").get("id"), storeId);
+        if (status != null) {
+            filter = filter.and((root, query, cb) -> cb.equal(root.get("status"), status));
+        }
+        // Every DTO reads the store and supplier names, so they are fetched with the page
+        Window<PurchaseOrder> window = purchaseOrderRepository.findBy(filter, query -> query
+                .sortBy(NEWEST_FIRST)
+                .project("store", "supplier.user")
+                .limit(KeysetCursor.limit(size))
+                .scroll(KeysetCursor.decode(cursor, NEWEST_FIRST, PurchaseOrder.class)));
+        return KeysetCursor.page(window, PurchaseOrderDTO::fromEntity);
+    }
+
+    @Transactional(readOnly = true)
     public Page<PurchaseOrderDTO> getPurchaseOrdersBySupplier(UUID supplierId, PurchaseOrderStatus status,
             Pageable pageable) {
         Supplier supplier = supplierRepository.findById(supplierId)
@@ -345,6 +377,7 @@ public class PurchaseOrderService {
         return orders.map(PurchaseOrderDTO::fromEntity);
     }
 
+    @Transactional(readOnly = true)
     public PurchaseOrderDTO getPurchaseOrder(UUID purchaseOrderId) {
         PurchaseOrder purchaseOrder = purchaseOrderRepository.findById(purchaseOrderId)
                 .orElseThrow(() -> new RuntimeException("Purchase order not found"));
@@ -0,0 +1,5 @@
+package Commerce360.service;
+
+// Outcome of a rate limit check, with what the X-RateLimit-* and Retry-After headers need
+public record RateLimitDecision(boolean allowed, int limit, long remaining, long retryAfterMillis) {
+}
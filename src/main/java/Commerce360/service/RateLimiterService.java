@@ -1,8 +1,8 @@
 package Commerce360.service;
 
 import Commerce360.config.RateLimiterConfig;
-import Commerce360.exception.RateLimitExceededException;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,22 +10,30 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class RateLimiterService {
     private static final Logger logger = LoggerFactory.getLogger(RateLimiterService.class);
+
+    // Bucket state packed into one long: tokens in the high bits, last refill time (ms since start) below
+    private static final int TIME_BITS = 44;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    public static final int MAX_CAPACITY = (1 << (63 - TIME_BITS)) - 1;
+
     private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
     private final Counter allowedRequests;
     private final Counter rejectedRequests;
-    private final Counter totalBuckets;
     private final RateLimiterConfig config;
     private final long leakInterval;
+    private final long startNanos = System.nanoTime();
 
     public RateLimiterService(MeterRegistry registry, RateLimiterConfig config) {
+        if (config.getCapacity() > MAX_CAPACITY) {
+            throw new IllegalArgumentException("rate.limiter.capacity cannot exceed " + MAX_CAPACITY);
+        }
         this.config = config;
-        this.leakInterval = TimeUnit.SECONDS.toMillis(1) / config.getLeakRate();
+        this.leakInterval = Math.max(1, TimeUnit.SECONDS.toMillis(1) / config.getLeakRate());
 
         // Initialize metrics
         this.allowedRequests = Counter.builder("rate_limiter.requests.allowed")
@@ -36,92 +44,103 @@ public class RateLimiterService {
                 .description("Number of rejected requests")
                 .register(registry);
 
-        this.totalBuckets = Counter.builder("rate_limiter.buckets.total")
+        Gauge.builder("rate_limiter.buckets.total", buckets, ConcurrentHashMap::size)
                 .description("Total number of active buckets")
                 .register(registry);
     }
 
-    private static class Bucket {
-        private int tokens;
-        private long lastLeakTime;
-        private long lastAccessTime;
-        private final ReentrantLock lock = new ReentrantLock();
+    private static final class Bucket {
+        private final AtomicLong state;
+        private final int capacity;
+        private final long leakInterval;
 
-        Bucket(int capacity) {
-            this.tokens = capacity;
-            this.lastLeakTime = System.currentTimeMillis();
-            this.lastAccessTime = System.currentTimeMillis();
+        Bucket(int capacity, long leakInterval, long now) {
+            this.state = new AtomicLong(pack(capacity, now));
+            this.capacity = capacity;
+            this.leakInterval = leakInterval;
         }
     }
 
+    // Returns false when the client is out of tokens; never blocks and never throws for a rejection
     public boolean tryAcquire(String clientId) {
+        return tryAcquire(clientId, config.getCapacity(), leakInterval);
+    }
+
+    // Bucket with its own capacity and refill interval; both are fixed when the bucket is created
+    public boolean tryAcquire(String clientId, int capacity, long leakIntervalMillis) {
+        return acquire(clientId, capacity, leakIntervalMillis).allowed();
+    }
+
+    public RateLimitDecision acquire(String clientId, int capacity, long leakIntervalMillis) {
         if (clientId == null || clientId.isEmpty()) {
             throw new IllegalArgumentException("Client ID cannot be null or empty");
         }
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Bucket capacity cannot exceed " + MAX_CAPACITY);
+        }
 
-        try {
-            Bucket bucket = buckets.computeIfAbsent(clientId, k -> {
-                logger.info("Creating new bucket for client: {}", clientId);
-                totalBuckets.increment();
-                return new Bucket(config.getCapacity());
-            });
-
-            bucket.lock.lock();
-            try {
-                bucket.lastAccessTime = System.currentTimeMillis();
-                long now = System.currentTimeMillis();
-                long timePassed = now - bucket.lastLeakTime;
-                int leaks = (int) (timePassed / leakInterval);
-
-                if (leaks > 0) {
-                    int oldTokens = bucket.tokens;
-                    bucket.tokens = Math.min(config.getCapacity(), bucket.tokens + leaks);
-                    bucket.lastLeakTime = now;
-                    logger.debug("Bucket leaked {} tokens for client {}. Old tokens: {}, New tokens: {}",
-                            leaks, clientId, oldTokens, bucket.tokens);
-                }
-
-                if (bucket.tokens > 0) {
-                    bucket.tokens--;
-                    allowedRequests.increment();
-                    logger.debug("Request allowed for client {}. Remaining tokens: {}", clientId, bucket.tokens);
-                    return true;
-                }
+        long now = now();
+        Bucket bucket = buckets.get(clientId);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(clientId, k -> new Bucket(capacity, leakIntervalMillis, now));
+        }
 
+        while (true) {
+            long current = bucket.state.get();
+            long tokens = refilledTokens(bucket, current, now);
+            if (tokens == 0) {
                 rejectedRequests.increment();
-                logger.warn("Rate limit exceeded for client {}. Request rejected.", clientId);
-                throw new RateLimitExceededException("Rate limit exceeded. Please try again later.");
-            } finally {
-                bucket.lock.unlock();
+                logger.debug("Rate limit exceeded for client {}", clientId);
+                long nextLeak = (current & TIME_MASK) + bucket.leakInterval - now;
+                return new RateLimitDecision(false, bucket.capacity, 0, Math.max(1, nextLeak));
+            }
+
+            if (bucket.state.compareAndSet(current, pack(tokens - 1, refillTime(bucket, current, now)))) {
+                allowedRequests.increment();
+                return new RateLimitDecision(true, bucket.capacity, tokens - 1, 0);
             }
-        } catch (Exception e) {
-            logger.error("Error processing rate limit for client {}: {}", clientId, e.getMessage());
-            throw e;
         }
     }
 
+    long getLeakInterval() {
+        return leakInterval;
+    }
+
     @Scheduled(fixedRateString = "#{@rateLimiterConfig.cleanupInterval}")
     public void cleanupInactiveBuckets() {
         try {
-            long now = System.currentTimeMillis();
-            AtomicInteger removedCount = new AtomicInteger(0);
-            buckets.entrySet().removeIf(entry -> {
-                Bucket bucket = entry.getValue();
-                bucket.lock.lock();
-                try {
-                    boolean shouldRemove = (now - bucket.lastAccessTime) > config.getCleanupInterval();
-                    if (shouldRemove) {
-                        removedCount.incrementAndGet();
-                    }
-                    return shouldRemove;
-                } finally {
-                    bucket.lock.unlock();
-                }
-            });
-            totalBuckets.increment(-removedCount.get());
-            logger.info("Cleaned up {} inactive buckets. Current bucket count: {}", removedCount.get(), buckets.size());
+            long now = now();
+            int before = buckets.size();
+            // A bucket that has refilled completely behaves exactly like a new one, so dropping it is safe
+            buckets.values().removeIf(bucket -> refilledTokens(bucket, bucket.state.get(), now) >= bucket.capacity);
+            logger.debug("Cleaned up {} inactive buckets. Current bucket count: {}", before - buckets.size(),
+                    buckets.size());
         } catch (Exception e) {
             logger.error("Error during bucket cleanup: {}", e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    private static long refilledTokens(Bucket bucket, long state, long now) {
+        long tokens = state >>> TIME_BITS;
+        long leaks = (now - (state & TIME_MASK)) / bucket.leakInterval;
+        return leaks > 0 ? Math.min(bucket.capacity, tokens + leaks) : tokens;
+    }
+
+    // Advances the refill clock by whole leak intervals so partial intervals are not lost
+    private static long refillTime(Bucket bucket, long state, long now) {
+        long last = state & TIME_MASK;
+        long leaks = (now - last) / bucket.leakInterval;
+        if (leaks <= 0) {
+            return last;
+        }
+        return (state >>> TIME_BITS) + leaks >= bucket.capacity ? now : last + leaks * bucket.leakInterval;
+    }
+
+    private static long pack(long tokens, long time) {
+        return (tokens << TIME_BITS) | (time & TIME_MASK);
+    }
+
+    private long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
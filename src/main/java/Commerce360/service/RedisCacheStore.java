@@ -0,0 +1,90 @@
+package Commerce360.service;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Redis implementation of RemoteCacheStore, enabled with cache.remote=redis. Evictions are published on a
+// channel so every replica drops its near copy as well.
+@Component
+@ConditionalOnProperty(name = "cache.remote", havingValue = "redis")
+public class RedisCacheStore implements RemoteCacheStore, DisposableBean {
+
+    private static final String KEY_PREFIX = "cache:";
+    private static final ChannelTopic INVALIDATIONS = new ChannelTopic("cache:invalidations");
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisCacheStore(RedisConnectionFactory connectionFactory, StringRedisTemplate stringRedisTemplate) {
+        this.redisTemplate = new RedisTemplate<>();
+        this.redisTemplate.setConnectionFactory(connectionFactory);
+        this.redisTemplate.setKeySerializer(RedisSerializer.string());
+        this.redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        this.redisTemplate.afterPropertiesSet();
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.afterPropertiesSet();
+    }
+
+    @Override
+    public byte[] get(String key) {
+        return redisTemplate.opsForValue().get(KEY_PREFIX + key);
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, value, ttl);
+    }
+
+    @Override
+    public void evict(String key) {
+        redisTemplate.unlink(KEY_PREFIX + key);
+        stringRedisTemplate.convertAndSend(INVALIDATIONS.getTopic(), key);
+    }
+
+    // SCAN rather than KEYS, so a large keyspace never blocks Redis
+    @Override
+    public void evictPrefix(String prefix) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + prefix + "*").count(500).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (!keys.isEmpty()) {
+            redisTemplate.unlink(keys);
+        }
+        stringRedisTemplate.convertAndSend(INVALIDATIONS.getTopic(), prefix + "*");
+    }
+
+    // The container resubscribes on its own after a connection loss
+    @Override
+    public void onInvalidation(Consumer<String> listener) {
+        MessageListener messageListener = (message, pattern) ->
+                listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+        listenerContainer.addMessageListener(messageListener, INVALIDATIONS);
+        listenerContainer.start();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+}
@@ -0,0 +1,53 @@
+package Commerce360.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// RemoteTokenBucket in Redis, enabled with rate.limiter.shared-store=redis. Refill and take run in one Lua
+// script against Redis' own clock, so replicas never disagree on time or spend the same tokens. Idle buckets
+// expire once they would be full again, so clients that never come back cost nothing to clean up.
+@Component
+@ConditionalOnProperty(name = "rate.limiter.shared-store", havingValue = "redis")
+public class RedisTokenBucket implements RemoteTokenBucket {
+
+    static final String KEY_PREFIX = "rate:";
+
+    // KEYS[1] bucket; ARGV capacity, leak interval ms, requested. Returns granted tokens.
+    private static final DefaultRedisScript<Long> TAKE = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) "
+                    + "local interval = tonumber(ARGV[2]) "
+                    + "local requested = tonumber(ARGV[3]) "
+                    + "local time = redis.call('TIME') "
+                    + "local now = time[1] * 1000 + math.floor(time[2] / 1000) "
+                    + "local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts') "
+                    + "local tokens = tonumber(state[1]) "
+                    + "local ts = tonumber(state[2]) "
+                    + "if not tokens then tokens = capacity ts = now end "
+                    + "local leaks = math.floor(math.max(0, now - ts) / interval) "
+                    + "if leaks > 0 then "
+                    + "  tokens = math.min(capacity, tokens + leaks) "
+                    + "  if tokens >= capacity then ts = now else ts = ts + leaks * interval end "
+                    + "end "
+                    + "local granted = math.min(requested, tokens) "
+                    + "redis.call('HSET', KEYS[1], 'tokens', tokens - granted, 'ts', ts) "
+                    + "redis.call('PEXPIRE', KEYS[1], capacity * interval) "
+                    + "return granted",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisTokenBucket(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public int take(String key, int requested, int capacity, long leakIntervalMillis) {
+        Long granted = redisTemplate.execute(TAKE, List.of(KEY_PREFIX + key), Integer.toString(capacity),
+                Long.toString(leakIntervalMillis), Integer.toString(requested));
+        return granted == null ? 0 : granted.intValue();
+    }
+}
@@ -0,0 +1,20 @@
+package Commerce360.service;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+// Shared cache tier behind LocalCache. Keys are "<cache>:<key>". Evictions must reach every replica's
+// near cache, so implementations broadcast them and pass received ones to the registered listener; a
+// prefix eviction is delivered as the prefix followed by '*'.
+public interface RemoteCacheStore {
+
+    byte[] get(String key);
+
+    void put(String key, byte[] value, Duration ttl);
+
+    void evict(String key);
+
+    void evictPrefix(String prefix);
+
+    void onInvalidation(Consumer<String> listener);
+}
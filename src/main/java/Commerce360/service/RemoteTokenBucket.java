@@ -0,0 +1,9 @@
+package Commerce360.service;
+
+// Token bucket shared by all replicas. Implementations must apply refill and take atomically on the
+// store side; a stand-in (embedded or in-memory) only has to honour the same contract.
+public interface RemoteTokenBucket {
+
+    // Takes up to `requested` tokens from the bucket for key and returns how many were granted (0 = empty)
+    int take(String key, int requested, int capacity, long leakIntervalMillis);
+}
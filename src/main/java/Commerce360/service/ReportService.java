@@ -1,24 +1,40 @@
 package Commerce360.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
-// import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import Commerce360.config.CacheName;
 import Commerce360.entity.*;
 import Commerce360.entity.TransactionType;
 import Commerce360.repository.*;
 import Commerce360.security.SecurityContextUtil;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
+// Reports are answered from daily_transaction_rollups for every whole day in the requested range.
+// The partial days at either end are aggregated by the database from the transactions table;
+// no Transaction entities are loaded. Results are cached per store and window after the ownership check;
+// InventoryService evicts a store's reports when its stock changes.
 @Service
+@Transactional(readOnly = true)
 public class ReportService {
 
+        private static final int TOP_N = 10;
+
         @Autowired
         private final TransactionRepository transactionRepository;
 
@@ -28,22 +44,30 @@ public class ReportService {
         @Autowired
         private final StoreRepository storeRepository;
 
+        @Autowired
+        private final DailyTransactionRollupRepository rollupRepository;
+
         @Autowired
         private final SecurityContextUtil securityContextUtil;
 
+        @Autowired
+        private final LocalCache cache;
+
         public ReportService(
                         TransactionRepository transactionRepository,
                         InventoryRepository inventoryRepository,
                         StoreRepository storeRepository,
-                        SecurityContextUtil securityContextUtil) {
+                        DailyTransactionRollupRepository rollupRepository,
+                        SecurityContextUtil securityContextUtil,
+                        LocalCache cache) {
                 this.transactionRepository = transactionRepository;
                 this.inventoryRepository = inventoryRepository;
                 this.storeRepository = storeRepository;
+                this.rollupRepository = rollupRepository;
                 this.securityContextUtil = securityContextUtil;
+                this.cache = cache;
         }
 
-        // @Cacheable(value = "reports", key = "'stock_summary_' + #storeId + '_' +
-        // #startDate + '_' + #endDate")
         public Map<String, Object> getStockSummary(UUID storeId, LocalDateTime startDate, LocalDateTime endDate) {
                 Store store = storeRepository.findById(storeId)
                                 .orElseThrow(() -> new RuntimeException("Store not found"));
@@ -52,31 +76,23 @@ public class ReportService {
                         throw new RuntimeException("You can only view reports for your own stores");
                 }
 
-                List<Transaction> transactions = transactionRepository.findByStoreAndTransactionDateBetween(store,
-                                startDate, endDate);
-
-                Map<String, Object> summary = Map.of(
-                                "totalStockIn", transactions.stream()
-                                                .filter(t -> t.getType() == TransactionType.STOCK_IN)
-                                                .mapToInt(Transaction::getQuantity)
-                                                .sum(),
-                                "totalStockOut", transactions.stream()
-                                                .filter(t -> t.getType() == TransactionType.SALE)
-                                                .mapToInt(Transaction::getQuantity)
-                                                .sum(),
-                                "currentStock", inventoryRepository.findByStore(store).stream()
-                                                .mapToInt(Inventory::getQuantity)
-                                                .sum(),
-                                "expiringStock", inventoryRepository.findByExpiryDateBefore(endDate).stream()
-                                                .filter(i -> i.getStore().equals(store))
-                                                .mapToInt(Inventory::getQuantity)
-                                                .sum());
-
-                return summary;
+                CacheName.ReportKey key = new CacheName.ReportKey(CacheName.Report.STOCK_SUMMARY, storeId, startDate,
+                                endDate);
+                return cache.get(CacheName.REPORTS, key, () -> {
+                        ReportWindow window = ReportWindow.of(startDate, endDate);
+                        Map<TransactionType, Totals> totals = totalsByType(store, window);
+
+                        Map<String, Object> summary = Map.of(
+                                        "totalStockIn", (int) totals(totals, TransactionType.STOCK_IN).quantity,
+                                        "totalStockOut", (int) totals(totals, TransactionType.SALE).quantity,
+                                        "currentStock", (int) inventoryRepository.sumQuantityByStore(store),
+                                        "expiringStock", (int) inventoryRepository
+                                                        .sumQuantityByStoreAndExpiryDateBefore(store, endDate));
+
+                        return summary;
+                });
         }
 
-        // @Cacheable(value = "reports", key = "'sales_summary_' + #storeId + '_' +
-        // #startDate + '_' + #endDate")
         public Map<String, Object> getSalesSummary(UUID storeId, LocalDateTime startDate, LocalDateTime endDate) {
                 Store store = storeRepository.findById(storeId)
                                 .orElseThrow(() -> new RuntimeException("Store not found"));
@@ -85,30 +101,24 @@ public class ReportService {
                         throw new RuntimeException("You can only view reports for your own stores");
                 }
 
-                List<Transaction> sales = transactionRepository.findByStoreAndTypeAndTransactionDateBetween(
-                                store, TransactionType.SALE, startDate, endDate, Pageable.unpaged()).getContent();
-
-                Map<String, Object> summary = Map.of(
-                                "totalSales", sales.stream()
-                                                .mapToDouble(Transaction::getTotalAmount)
-                                                .sum(),
-                                "totalItemsSold", sales.stream()
-                                                .mapToInt(Transaction::getQuantity)
-                                                .sum(),
-                                "averageSalePrice", sales.stream()
-                                                .mapToDouble(Transaction::getUnitPrice)
-                                                .average()
-                                                .orElse(0.0),
-                                "topSellingProducts", sales.stream()
-                                                .collect(Collectors.groupingBy(
-                                                                t -> t.getProduct().getName(),
-                                                                Collectors.summingInt(Transaction::getQuantity))));
-
-                return summary;
+                CacheName.ReportKey key = new CacheName.ReportKey(CacheName.Report.SALES_SUMMARY, storeId, startDate,
+                                endDate);
+                return cache.get(CacheName.REPORTS, key, () -> {
+                        ReportWindow window = ReportWindow.of(startDate, endDate);
+                        Totals sales = totals(totalsByType(store, window), TransactionType.SALE);
+                        Map<String, Integer> topSellingProducts = topEntries(store, window, TransactionType.SALE, false,
+                                        row -> row.getTotalQuantity().intValue());
+
+                        Map<String, Object> summary = Map.of(
+                                        "totalSales", sales.amount,
+                                        "totalItemsSold", (int) sales.quantity,
+                                        "averageSalePrice", sales.averageUnitPrice(),
+                                        "topSellingProducts", topSellingProducts);
+
+                        return summary;
+                });
         }
 
-        // @Cacheable(value = "reports", key = "'purchase_summary_' + #storeId + '_' +
-        // #startDate + '_' + #endDate")
         public Map<String, Object> getPurchaseSummary(UUID storeId, LocalDateTime startDate, LocalDateTime endDate) {
                 Store store = storeRepository.findById(storeId)
                                 .orElseThrow(() -> new RuntimeException("Store not found"));
@@ -117,31 +127,24 @@ public class ReportService {
                         throw new RuntimeException("You can only view reports for your own stores");
                 }
 
-                List<Transaction> purchases = transactionRepository.findByStoreAndTypeAndTransactionDateBetween(
-                                store, TransactionType.STOCK_IN, startDate, endDate, Pageable.unpaged()).getContent();
-
-                Map<String, Object> summary = Map.of(
-                                "totalPurchases", purchases.stream()
-                                                .mapToDouble(Transaction::getTotalAmount)
-                                                .sum(),
-                                "totalItemsPurchased", purchases.stream()
-                                                .mapToInt(Transaction::getQuantity)
-                                                .sum(),
-                                "averagePurchasePrice", purchases.stream()
-                                                .mapToDouble(Transaction::getUnitPrice)
-                                                .average()
-                                                .orElse(0.0),
-                                "topSuppliers", purchases.stream()
-                                                .collect(Collectors.groupingBy(
-                                                                t -> t.getSupplier().getCompanyName(),
-                                                                Collectors.summingDouble(
-                                                                                Transaction::getTotalAmount))));
-
-                return summary;
+                CacheName.ReportKey key = new CacheName.ReportKey(CacheName.Report.PURCHASE_SUMMARY, storeId, startDate,
+                                endDate);
+                return cache.get(CacheName.REPORTS, key, () -> {
+                        ReportWindow window = ReportWindow.of(startDate, endDate);
+                        Totals purchases = totals(totalsByType(store, window), TransactionType.STOCK_IN);
+                        Map<String, Double> topSuppliers = topEntries(store, window, TransactionType.STOCK_IN, true,
+                                        NamedTransactionTotals::getTotalAmount);
+
+                        Map<String, Object> summary = Map.of(
+                                        "totalPurchases", purchases.amount,
+                                        "totalItemsPurchased", (int) purchases.quantity,
+                                        "averagePurchasePrice", purchases.averageUnitPrice(),
+                                        "topSuppliers", topSuppliers);
+
+                        return summary;
+                });
         }
 
-        // @Cacheable(value = "reports", key = "'profit_loss_' + #storeId + '_' +
-        // #startDate + '_' + #endDate")
         public Map<String, Object> getProfitLossAnalysis(UUID storeId, LocalDateTime startDate, LocalDateTime endDate) {
                 Store store = storeRepository.findById(storeId)
                                 .orElseThrow(() -> new RuntimeException("Store not found"));
@@ -150,31 +153,165 @@ public class ReportService {
                         throw new RuntimeException("You can only view reports for your own stores");
                 }
 
-                List<Transaction> transactions = transactionRepository.findByStoreAndTransactionDateBetween(store,
-                                startDate, endDate);
+                CacheName.ReportKey key = new CacheName.ReportKey(CacheName.Report.PROFIT_LOSS, storeId, startDate,
+                                endDate);
+                return cache.get(CacheName.REPORTS, key, () -> {
+                        ReportWindow window = ReportWindow.of(startDate, endDate);
+                        Map<TransactionType, Totals> totals = totalsByType(store, window);
+
+                        double totalSales = totals(totals, TransactionType.SALE).amount;
+                        double totalPurchases = totals(totals, TransactionType.STOCK_IN).amount;
+
+                        double grossProfit = totalSales - totalPurchases;
+                        double profitMargin = totalSales > 0 ? (grossProfit / totalSales) * 100 : 0;
+
+                        Map<String, Object> analysis = Map.of(
+                                        "totalSales", totalSales,
+                                        "totalPurchases", totalPurchases,
+                                        "grossProfit", grossProfit,
+                                        "profitMargin", profitMargin,
+                                        "period", Map.of(
+                                                        "startDate", startDate,
+                                                        "endDate", endDate));
+
+                        return analysis;
+                });
+        }
 
-                double totalSales = transactions.stream()
-                                .filter(t -> t.getType() == TransactionType.SALE)
-                                .mapToDouble(Transaction::getTotalAmount)
-                                .sum();
+        // Splits [start, end] into whole days (answered from rollups) and the partial days around them
+        private record ReportWindow(LocalDateTime start, LocalDateTime end, LocalDate fullFrom, LocalDate fullTo) {
+                static ReportWindow of(LocalDateTime start, LocalDateTime end) {
+                        LocalDate fullFrom = start.toLocalTime().equals(LocalTime.MIDNIGHT)
+                                        ? start.toLocalDate()
+                                        : start.toLocalDate().plusDays(1);
+                        // The end is inclusive, so every day before end's date is complete
+                        return new ReportWindow(start, end, fullFrom, end.toLocalDate());
+                }
 
-                double totalPurchases = transactions.stream()
-                                .filter(t -> t.getType() == TransactionType.STOCK_IN)
-                                .mapToDouble(Transaction::getTotalAmount)
-                                .sum();
+                boolean hasFullDays() {
+                        return fullFrom.isBefore(fullTo);
+                }
 
-                double grossProfit = totalSales - totalPurchases;
-                double profitMargin = totalSales > 0 ? (grossProfit / totalSales) * 100 : 0;
+                // Ranges still read from the transactions table
+                List<Segment> edges() {
+                        if (!hasFullDays()) {
+                                return List.of(new Segment(start, end, true));
+                        }
+                        List<Segment> edges = new ArrayList<>();
+                        LocalDateTime fullStart = fullFrom.atStartOfDay();
+                        if (start.isBefore(fullStart)) {
+                                edges.add(new Segment(start, fullStart, false));
+                        }
+                        edges.add(new Segment(fullTo.atStartOfDay(), end, true));
+                        return edges;
+                }
+        }
 
-                Map<String, Object> analysis = Map.of(
-                                "totalSales", totalSales,
-                                "totalPurchases", totalPurchases,
-                                "grossProfit", grossProfit,
-                                "profitMargin", profitMargin,
-                                "period", Map.of(
-                                                "startDate", startDate,
-                                                "endDate", endDate));
+        private record Segment(LocalDateTime start, LocalDateTime end, boolean endInclusive) {
+        }
 
-                return analysis;
+        private static class Totals {
+                private long count;
+                private long quantity;
+                private double amount;
+                private double unitPriceSum;
+
+                void add(TransactionTypeTotals row) {
+                        this.count += row.getTransactionCount();
+                        this.quantity += row.getTotalQuantity();
+                        this.amount += row.getTotalAmount();
+                        this.unitPriceSum += row.getUnitPriceSum();
+                }
+
+                double averageUnitPrice() {
+                        return count > 0 ? unitPriceSum / count : 0.0;
+                }
+        }
+
+        private Map<TransactionType, Totals> totalsByType(Store store, ReportWindow window) {
+                List<TransactionTypeTotals> rows = new ArrayList<>();
+                if (window.hasFullDays()) {
+                        rows.addAll(rollupRepository.sumByType(store.getId(), window.fullFrom(), window.fullTo()));
+                }
+                for (Segment edge : window.edges()) {
+                        rows.addAll(transactionRepository.sumByType(store, edge.start(), edge.end(),
+                                        edge.endInclusive()));
+                }
+
+                Map<TransactionType, Totals> totals = new EnumMap<>(TransactionType.class);
+                for (TransactionTypeTotals row : rows) {
+                        totals.computeIfAbsent(row.getType(), type -> new Totals()).add(row);
+                }
+                return totals;
+        }
+
+        private static Totals totals(Map<TransactionType, Totals> totals, TransactionType type) {
+                return totals.getOrDefault(type, new Totals());
+        }
+
+        // Top products (by quantity) or suppliers (by amount). A single partial-day range is limited in SQL;
+        // otherwise the grouped rollup and edge rows are merged first so the cut-off stays exact.
+        private <V extends Comparable<V>> Map<String, V> topEntries(Store store, ReportWindow window,
+                        TransactionType type, boolean bySupplier, Function<NamedTransactionTotals, V> value) {
+                List<NamedTransactionTotals> rows = new ArrayList<>();
+                Pageable limit = window.hasFullDays() ? Pageable.unpaged() : PageRequest.of(0, TOP_N);
+
+                if (window.hasFullDays()) {
+                        rows.addAll(bySupplier
+                                        ? rollupRepository.sumBySupplier(store.getId(), type, window.fullFrom(),
+                                                        window.fullTo())
+                                        : rollupRepository.sumByProduct(store.getId(), type, window.fullFrom(),
+                                                        window.fullTo()));
+                }
+                for (Segment edge : window.edges()) {
+                        rows.addAll(bySupplier
+                                        ? transactionRepository.topSuppliers(store, type, edge.start(), edge.end(),
+                                                        edge.endInclusive(), limit)
+                                        : transactionRepository.topProducts(store, type, edge.start(), edge.end(),
+                                                        edge.endInclusive(), limit));
+                }
+
+                Map<String, NamedTotals> merged = new HashMap<>();
+                for (NamedTransactionTotals row : rows) {
+                        merged.computeIfAbsent(row.getName(), NamedTotals::new).add(row);
+                }
+
+                Map<String, V> top = new LinkedHashMap<>();
+                merged.values().stream()
+                                .map(totals -> Map.entry(totals.name, value.apply(totals)))
+                                .sorted(Map.Entry.<String, V>comparingByValue(Comparator.reverseOrder()))
+                                .limit(TOP_N)
+                                .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+                return top;
+        }
+
+        private static class NamedTotals implements NamedTransactionTotals {
+                private final String name;
+                private long quantity;
+                private double amount;
+
+                NamedTotals(String name) {
+                        this.name = name;
+                }
+
+                void add(NamedTransactionTotals row) {
+                        this.quantity += row.getTotalQuantity();
+                        this.amount += row.getTotalAmount();
+                }
+
+                @Override
+                public String getName() {
+                        return name;
+                }
+
+                @Override
+                public Long getTotalQuantity() {
+                        return quantity;
+                }
+
+                @Override
+                public Double getTotalAmount() {
+                        return amount;
+                }
         }
-}
\ No newline at end of file
+}
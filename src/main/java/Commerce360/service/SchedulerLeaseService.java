@@ -0,0 +1,190 @@
+package Commerce360.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Commerce360.repository.SchedulerLeaseRepository;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Database-backed leader lock for scheduled jobs. Every replica fires the same cron, but only the node that
+// acquires the job's lease runs it. The holder renews the lease while the job runs; if the node dies the
+// lease simply expires and the next trigger on any node takes over. Expiry is always computed by the
+// database, so replicas with skewed clocks still agree on who holds a lease.
+//
+// A holder that loses its lease (another node took it, or renewals kept failing until it ran out) interrupts
+// the job thread. Jobs that work in steps should stop when their thread is interrupted.
+@Service
+@Slf4j
+public class SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-lease-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SchedulerLeaseService(SchedulerLeaseRepository leaseRepository,
+            PlatformTransactionManager transactionManager) {
+        this.leaseRepository = leaseRepository;
+        // Lease writes must commit on their own, never inside the job's transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = resolveHostName() + ":" + UUID.randomUUID();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // A lease held by a running job. confirmedAtNanos is taken before the statement that last granted or
+    // extended it, so the lease is known to last at least leaseDuration from then.
+    private static final class HeldLease {
+        private final String jobName;
+        private final Duration leaseDuration;
+        private final Thread runner;
+        private volatile long confirmedAtNanos;
+        private volatile boolean lost;
+        private boolean finished;
+
+        private HeldLease(String jobName, Duration leaseDuration, Thread runner, long confirmedAtNanos) {
+            this.jobName = jobName;
+            this.leaseDuration = leaseDuration;
+            this.runner = runner;
+            this.confirmedAtNanos = confirmedAtNanos;
+        }
+    }
+
+    // Runs the job only if this node holds the lease. Returns false when another node is running it. Throws
+    // if the lease was lost while the job ran, after the job has stopped.
+    public boolean runExclusively(String jobName, Duration leaseDuration, Runnable job) {
+        long requestedAt = System.nanoTime();
+        if (!tryAcquire(jobName, leaseDuration)) {
+            log.info("Skipping job {}: lease is held by another node", jobName);
+            return false;
+        }
+
+        HeldLease lease = new HeldLease(jobName, leaseDuration, Thread.currentThread(), requestedAt);
+        long renewEveryMillis = Math.max(1000, leaseDuration.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(lease),
+                renewEveryMillis, renewEveryMillis, TimeUnit.MILLISECONDS);
+        RuntimeException failure = null;
+        try {
+            job.run();
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            renewal.cancel(false);
+            synchronized (lease) {
+                lease.finished = true;
+            }
+        }
+
+        if (lease.lost) {
+            // The interrupt was ours; do not leak it into the scheduler's thread
+            Thread.interrupted();
+            throw new RuntimeException("Lost lease for job " + jobName + " while it was running", failure);
+        }
+        if (failure != null) {
+            release(jobName);
+            throw failure;
+        }
+        // On success the lease is left to run out, so replicas whose trigger fires a little late skip the job
+        return true;
+    }
+
+    public boolean tryAcquire(String jobName, Duration leaseDuration) {
+        long leaseSeconds = leaseSeconds(leaseDuration);
+        Integer updated = transactionTemplate.execute(
+                status -> leaseRepository.tryAcquire(jobName, nodeId, leaseSeconds));
+        if (updated != null && updated > 0) {
+            return true;
+        }
+
+        // First run of this job anywhere: create the row; a racing node hits the primary key instead
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> !leaseRepository.existsById(jobName)
+                    && leaseRepository.create(jobName, nodeId, leaseSeconds) > 0));
+        } catch (DataIntegrityViolationException | PersistenceException e) {
+            return false;
+        }
+    }
+
+    private void renew(HeldLease lease) {
+        if (lease.lost) {
+            return;
+        }
+        long requestedAt = System.nanoTime();
+        try {
+            Integer updated = transactionTemplate.execute(status -> leaseRepository.renew(lease.jobName, nodeId,
+                    leaseSeconds(lease.leaseDuration)));
+            if (updated != null && updated > 0) {
+                lease.confirmedAtNanos = requestedAt;
+                return;
+            }
+            log.warn("Lost lease for job {} on node {}; stopping the job", lease.jobName, nodeId);
+            lose(lease);
+        } catch (Exception e) {
+            // Still ours until the last confirmed lease runs out; past that another node may have taken it
+            if (System.nanoTime() - lease.confirmedAtNanos >= lease.leaseDuration.toNanos()) {
+                log.warn("Could not renew lease for job {} before it expired; stopping the job: {}",
+                        lease.jobName, e.getMessage());
+                lose(lease);
+            } else {
+                log.warn("Failed to renew lease for job {}: {}", lease.jobName, e.getMessage());
+            }
+        }
+    }
+
+    // Synchronized with the end of the job, so a late renewal never interrupts the thread's next task
+    private static void lose(HeldLease lease) {
+        synchronized (lease) {
+            if (!lease.finished) {
+                lease.lost = true;
+                lease.runner.interrupt();
+            }
+        }
+    }
+
+    private void release(String jobName) {
+        try {
+            transactionTemplate.execute(status -> leaseRepository.release(jobName, nodeId));
+        } catch (Exception e) {
+            // The lease expires on its own
+            log.warn("Failed to release lease for job {}: {}", jobName, e.getMessage());
+        }
+    }
+
+    // Whole seconds, rounded up, so a short lease never becomes an already expired one
+    private static long leaseSeconds(Duration leaseDuration) {
+        return Math.max(1, (leaseDuration.toMillis() + 999) / 1000);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown-host";
+        }
+    }
+}
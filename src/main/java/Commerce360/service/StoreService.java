@@ -1,5 +1,6 @@
 package Commerce360.service;
 
+import Commerce360.config.CacheName;
 import Commerce360.dto.StoreDTO;
 import Commerce360.entity.Store;
 import Commerce360.entity.StoreManager;
@@ -11,15 +12,12 @@ import Commerce360.repository.UserRepository;
 import Commerce360.security.SecurityContextUtil;
 
 import org.springframework.beans.factory.annotation.Autowired;
-// import org.springframework.cache.annotation.CacheEvict;
-// import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 public class StoreService {
@@ -35,30 +33,34 @@ public class StoreService {
     @Autowired
     private final SecurityContextUtil securityContextUtil;
 
+    @Autowired
+    private final LocalCache cache;
+
     public StoreService(StoreRepository storeRepository, UserRepository userRepository,
-            StoreManagerRepository storeManagerRepository, SecurityContextUtil securityContextUtil) {
+            StoreManagerRepository storeManagerRepository, SecurityContextUtil securityContextUtil,
+            LocalCache cache) {
         this.storeRepository = storeRepository;
         this.userRepository = userRepository;
         this.storeManagerRepository = storeManagerRepository;
         this.securityContextUtil = securityContextUtil;
+        this.cache = cache;
     }
 
-    // @Cacheable(value = "stores", key = "'all'")
+    // Cached lists are unmodifiable, since the same instance is handed to every caller
     @Transactional(readOnly = true)
     public List<StoreDTO> getAllStores() {
-        return storeRepository.findAll().stream()
+        return cache.get(CacheName.ALL_STORES, CacheName.StoreListing.ALL, () -> storeRepository.findAll().stream()
                 .map(StoreDTO::fromEntity)
-                .collect(Collectors.toList());
+                .toList());
     }
 
-    // @Cacheable(value = "stores", key = "#id")
     @Transactional(readOnly = true)
     public Optional<StoreDTO> getStoreById(UUID id) {
-        return storeRepository.findById(id)
-                .map(StoreDTO::fromEntity);
+        return Optional.ofNullable(cache.get(CacheName.STORE, id, () -> storeRepository.findById(id)
+                .map(StoreDTO::fromEntity)
+                .orElse(null)));
     }
 
-    // @CacheEvict(value = "stores", allEntries = true)
     public Store createStore(Store store) {
         // Get or create StoreManager for current user
         User currentUser = userRepository.findById(securityContextUtil.getCurrentUserId())
@@ -78,10 +80,11 @@ public class StoreService {
                 });
 
         store.setOwner(storeManager);
-        return storeRepository.save(store);
+        Store saved = storeRepository.save(store);
+        evictStore(saved.getId(), storeManager.getId());
+        return saved;
     }
 
-    // @CacheEvict(value = "stores", key = "#storeId")
     public Store updateStore(UUID storeId, Store updatedStore) {
         Store existingStore = storeRepository.findById(storeId)
                 .orElseThrow(() -> new RuntimeException("Store not found"));
@@ -95,10 +98,11 @@ public class StoreService {
         existingStore.setName(updatedStore.getName());
         existingStore.setLocation(updatedStore.getLocation());
 
-        return storeRepository.save(existingStore);
+        Store saved = storeRepository.save(existingStore);
+        evictStore(storeId, existingStore.getOwner().getId());
+        return saved;
     }
 
-    // @CacheEvict(value = "stores", key = "#storeId")
     public void deleteStore(UUID storeId) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new RuntimeException("Store not found"));
@@ -110,18 +114,18 @@ public class StoreService {
         }
 
         storeRepository.deleteById(storeId);
+        evictStore(storeId, store.getOwner().getId());
     }
 
     @Transactional
-    // @CacheEvict(value = "stores", allEntries = true)
     public void deleteStoresByOwner(UUID ownerId) {
         List<Store> stores = storeRepository.findByOwnerId(ownerId);
         for (Store store : stores) {
             storeRepository.delete(store);
+            evictStore(store.getId(), ownerId);
         }
     }
 
-    // @CacheEvict(value = "stores", key = "#storeId")
     public Store assignStoreOwner(UUID storeId, UUID userId) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new RuntimeException("Store not found"));
@@ -142,16 +146,19 @@ public class StoreService {
                     return storeManagerRepository.save(newManager);
                 });
 
+        UUID previousOwnerId = store.getOwner() != null ? store.getOwner().getId() : null;
         store.setOwner(storeManager);
-        return storeRepository.save(store);
+        Store saved = storeRepository.save(store);
+        evictStore(storeId, previousOwnerId);
+        evictStore(storeId, storeManager.getId());
+        return saved;
     }
 
-    // @Cacheable(value = "stores", key = "'owner_' + #ownerId")
     @Transactional(readOnly = true)
     public List<StoreDTO> getStoresByOwner(UUID ownerId) {
-        return storeRepository.findByOwnerId(ownerId).stream()
+        return cache.get(CacheName.STORES_BY_OWNER, ownerId, () -> storeRepository.findByOwnerId(ownerId).stream()
                 .map(StoreDTO::fromEntity)
-                .collect(Collectors.toList());
+                .toList());
     }
 
     // Note: ownerId is now StoreManager.id, not User.id
@@ -170,4 +177,13 @@ public class StoreService {
 
         return getStoresByOwner(storeManager.getId());
     }
+
+    // Every cached view a store appears in
+    private void evictStore(UUID storeId, UUID ownerId) {
+        cache.evict(CacheName.STORE, storeId);
+        cache.evict(CacheName.ALL_STORES, CacheName.StoreListing.ALL);
+        if (ownerId != null) {
+            cache.evict(CacheName.STORES_BY_OWNER, ownerId);
+        }
+    }
 }
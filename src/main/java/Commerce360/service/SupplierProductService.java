@@ -120,6 +120,7 @@ public class SupplierProductService {
                 .map(SupplierProductDTO::fromEntity);
     }
 
+    @Transactional(readOnly = true)
     public SupplierProductDTO getSupplierProduct(UUID supplierProductId) {
         SupplierProduct supplierProduct = supplierProductRepository.findById(supplierProductId)
                 .orElseThrow(() -> new RuntimeException("Supplier product not found"));
@@ -0,0 +1,153 @@
+package Commerce360.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Commerce360.entity.DailyTransactionRollup;
+import Commerce360.entity.Transaction;
+import Commerce360.entity.TransactionType;
+import Commerce360.repository.DailyTransactionRollupRepository;
+import Commerce360.repository.TransactionRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Maintains daily_transaction_rollups. New transactions are aggregated per (store, product, supplier, type, day)
+// for the lifetime of the surrounding database transaction and written as one batched upsert just
+// before it commits, so a bulk write costs one statement batch instead of one upsert per row.
+@Service
+@Slf4j
+public class TransactionRollupService {
+
+    private static final String BACKFILL_JOB = "transactions.rollup-backfill";
+    private static final Duration BACKFILL_LEASE = Duration.ofMinutes(30);
+
+    private final DailyTransactionRollupRepository rollupRepository;
+    private final TransactionRepository transactionRepository;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionRollupService(DailyTransactionRollupRepository rollupRepository,
+            TransactionRepository transactionRepository, SchedulerLeaseService schedulerLeaseService,
+            JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.transactionRepository = transactionRepository;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    private record RollupKey(UUID storeId, UUID productId, UUID supplierId, TransactionType type, LocalDate date) {
+    }
+
+    public void capture(Transaction transaction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Repository saves always run in a transaction; this is only reached by direct EntityManager use
+            rollupRepository.upsertAll(List.of(toDelta(transaction)));
+            return;
+        }
+
+        Map<RollupKey, DailyTransactionRollup> pending = pendingDeltas();
+        DailyTransactionRollup delta = toDelta(transaction);
+        RollupKey key = new RollupKey(delta.getStoreId(), delta.getProductId(), delta.getSupplierId(),
+                delta.getType(), delta.getRollupDate());
+        pending.merge(key, delta, (a, b) -> {
+            a.setTransactionCount(a.getTransactionCount() + b.getTransactionCount());
+            a.setTotalQuantity(a.getTotalQuantity() + b.getTotalQuantity());
+            a.setTotalAmount(a.getTotalAmount() + b.getTotalAmount());
+            a.setUnitPriceSum(a.getUnitPriceSum() + b.getUnitPriceSum());
+            return a;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<RollupKey, DailyTransactionRollup> pendingDeltas() {
+        Map<RollupKey, DailyTransactionRollup> pending = (Map<RollupKey, DailyTransactionRollup>) TransactionSynchronizationManager
+                .getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<RollupKey, DailyTransactionRollup> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                rollupRepository.upsertAll(created.values());
+                created.clear();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TransactionRollupService.this);
+            }
+        });
+        return created;
+    }
+
+    private DailyTransactionRollup toDelta(Transaction transaction) {
+        return DailyTransactionRollup.builder()
+                .storeId(transaction.getStore().getId())
+                .productId(transaction.getProduct().getId())
+                .supplierId(transaction.getSupplier() != null
+                        ? transaction.getSupplier().getId()
+                        : DailyTransactionRollup.NO_SUPPLIER)
+                .type(transaction.getType())
+                .rollupDate(transaction.getTransactionDate().toLocalDate())
+                .transactionCount(1L)
+                .totalQuantity((long) transaction.getQuantity())
+                .totalAmount(transaction.getTotalAmount())
+                .unitPriceSum(transaction.getUnitPrice())
+                .build();
+    }
+
+    // Builds the table from the existing history on the first start after it is introduced, or whenever it
+    // has fallen out of step. One replica runs it. Taking SHARE on transactions waits for in-flight writes,
+    // whose rollup upserts commit with them, and holds off new ones, so the rebuild cannot race live capture.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!isPostgres()) {
+            return;
+        }
+        try {
+            schedulerLeaseService.runExclusively(BACKFILL_JOB, BACKFILL_LEASE, () -> transactionTemplate
+                    .executeWithoutResult(status -> {
+                        if (inStep()) {
+                            return;
+                        }
+                        jdbcTemplate.execute("LOCK TABLE transactions IN SHARE MODE");
+                        if (inStep()) {
+                            return;
+                        }
+                        rollupRepository.deleteAllInBatch();
+                        int rows = rollupRepository.backfillFromTransactions();
+                        log.info("Backfilled {} daily transaction rollup rows", rows);
+                    }));
+        } catch (Exception e) {
+            log.error("Error backfilling daily transaction rollups: {}", e.getMessage(), e);
+        }
+    }
+
+    // Transactions are never deleted, so every one of them is counted in exactly one rollup row
+    private boolean inStep() {
+        return rollupRepository.sumTransactionCount() == transactionRepository.count();
+    }
+
+    private boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> connection
+                .getMetaData().getDatabaseProductName().toLowerCase().contains("postgresql")));
+    }
+}
@@ -7,6 +7,8 @@ import Commerce360.entity.User;
 import Commerce360.repository.UserRepository;
 import Commerce360.entity.UserRole;
 import Commerce360.entity.ApprovalStatus;
+import Commerce360.security.PrincipalCache;
+import Commerce360.security.RefreshTokenService;
 import Commerce360.security.SecurityContextUtil;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,12 +34,21 @@ public class UserService {
     @Autowired
     private final SecurityContextUtil securityContextUtil;
 
+    @Autowired
+    private final PrincipalCache principalCache;
+
+    @Autowired
+    private final RefreshTokenService refreshTokenService;
+
     public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
-            StoreService storeService, SecurityContextUtil securityContextUtil) {
+            StoreService storeService, SecurityContextUtil securityContextUtil, PrincipalCache principalCache,
+            RefreshTokenService refreshTokenService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.storeService = storeService;
         this.securityContextUtil = securityContextUtil;
+        this.principalCache = principalCache;
+        this.refreshTokenService = refreshTokenService;
     }
 
     // @Cacheable(value = "users", key = "#email")
@@ -88,7 +99,9 @@ public class UserService {
         user.setApprovalStatus(ApprovalStatus.APPROVED);
         user.setApprovalDate(LocalDateTime.now());
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        principalCache.invalidate(user.getEmail());
+        return saved;
     }
 
     public User rejectUser(UUID userId, String reason) {
@@ -98,7 +111,10 @@ public class UserService {
         user.setApprovalStatus(ApprovalStatus.REJECTED);
         user.setRejectionReason(reason);
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        principalCache.invalidate(user.getEmail());
+        refreshTokenService.revokeUser(user.getEmail());
+        return saved;
     }
 
     // @CacheEvict(value = "users", key = "#user.email")
@@ -116,6 +132,8 @@ public class UserService {
         User existingUser = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
+        principalCache.invalidate(existingUser.getEmail());
+        refreshTokenService.revokeUser(existingUser.getEmail());
         existingUser.setEmail(updatedUser.getEmail());
 
         if (updatedUser.getPassword() != null && !updatedUser.getPassword().isEmpty()) {
@@ -143,6 +161,10 @@ public class UserService {
         storeService.deleteStoresByOwner(userId);
 
         // Delete the user
+        userRepository.findById(userId).ifPresent(user -> {
+            principalCache.invalidate(user.getEmail());
+            refreshTokenService.revokeUser(user.getEmail());
+        });
         userRepository.deleteById(userId);
     }
 
@@ -0,0 +1,90 @@
+package Commerce360.config;
+
+import Commerce360.service.DistributedRateLimiterService;
+import Commerce360.service.RateLimiterService;
+import Commerce360.service.RemoteTokenBucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final String ORIGIN = "https://shop.example.com";
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimiterConfig config = new RateLimiterConfig();
+        config.setCapacity(1);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        DistributedRateLimiterService limiter = new DistributedRateLimiterService(
+                new RateLimiterService(registry, config),
+                new StaticListableBeanFactory().getBeanProvider(RemoteTokenBucket.class), config, registry);
+        rateLimitFilter = new RateLimitFilter(limiter, new RateLimitPolicyRegistry(config), null, registry);
+    }
+
+    @Test
+    void rejectionCarriesRetryHeaders() throws Exception {
+        assertThat(send("GET").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = send("GET");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getHeader("X-RateLimit-Remaining")).isEqualTo("0");
+    }
+
+    @Test
+    void preflightIsNotCounted() throws Exception {
+        MockHttpServletRequest preflight = request("OPTIONS");
+        preflight.addHeader("Access-Control-Request-Method", "GET");
+        for (int i = 0; i < 5; i++) {
+            assertThat(send(preflight).getStatus()).isEqualTo(200);
+        }
+
+        assertThat(send("GET").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void plainOptionsIsCounted() throws Exception {
+        assertThat(send("OPTIONS").getStatus()).isEqualTo(200);
+        assertThat(send("OPTIONS").getStatus()).isEqualTo(429);
+    }
+
+    // HEAD runs the GET handler, so it draws from the same bucket
+    @Test
+    void headIsCountedLikeGet() throws Exception {
+        assertThat(send("HEAD").getStatus()).isEqualTo(200);
+        assertThat(send("GET").getStatus()).isEqualTo(429);
+    }
+
+    private MockHttpServletResponse send(String method) throws Exception {
+        return send(request(method));
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+            }
+        }, rateLimitFilter).doFilter(request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/products");
+        request.addHeader("Origin", ORIGIN);
+        return request;
+    }
+}
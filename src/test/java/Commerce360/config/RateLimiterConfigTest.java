@@ -0,0 +1,53 @@
+package Commerce360.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class))
+            .withUserConfiguration(RateLimiterConfig.class);
+
+    @Test
+    void capacitiesWithinTheBucketLimitBind() {
+        contextRunner.withPropertyValues("rate.limiter.policies.catalog.capacity=524287",
+                "rate.limiter.policies.catalog.role-capacities.ADMIN=500")
+                .run(context -> assertThat(context).hasNotFailed());
+    }
+
+    @Test
+    void policyCapacityAboveTheBucketLimitFailsAtStartup() {
+        contextRunner.withPropertyValues("rate.limiter.policies.catalog.capacity=524288")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void roleCapacityAboveTheBucketLimitFailsAtStartup() {
+        contextRunner.withPropertyValues("rate.limiter.policies.catalog.role-capacities.ADMIN=1000000")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void onlyConfiguredApiKeysNameAClient() throws Exception {
+        RateLimiterConfig config = new RateLimiterConfig();
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest("partner-secret".getBytes(StandardCharsets.UTF_8)));
+        config.setApiKeys(Map.of("partner-a", hash.toUpperCase()));
+        RateLimitPolicyRegistry registry = new RateLimitPolicyRegistry(config);
+
+        assertThat(registry.apiClient("partner-secret")).isEqualTo("partner-a");
+        assertThat(registry.apiClient("made-up")).isNull();
+        assertThat(registry.apiClient(null)).isNull();
+        assertThat(registry.apiClient("x".repeat(10_000))).isNull();
+    }
+}
@@ -0,0 +1,92 @@
+package Commerce360.repository;
+
+import Commerce360.entity.ApprovalStatus;
+import Commerce360.entity.Inventory;
+import Commerce360.entity.Product;
+import Commerce360.entity.Store;
+import Commerce360.entity.StoreManager;
+import Commerce360.entity.User;
+import Commerce360.entity.UserRole;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class InventoryReservationTest {
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID inventoryId;
+
+    @BeforeEach
+    void setUp() {
+        User user = persist(User.builder().email(UUID.randomUUID() + "@example.com").password("x")
+                .firstName("First").lastName("Last").role(UserRole.STORE_MANAGER)
+                .approvalStatus(ApprovalStatus.APPROVED).registrationDate(LocalDateTime.now()).build());
+        StoreManager manager = persist(StoreManager.builder().user(user).createdAt(LocalDateTime.now()).build());
+        Store store = persist(Store.builder().name("Store " + UUID.randomUUID()).location("Lahore")
+                .owner(manager).build());
+        Product product = persist(Product.builder().sku("SKU-" + UUID.randomUUID()).name("Product")
+                .category("category").price(BigDecimal.ONE).build());
+        inventoryId = persist(Inventory.builder().store(store).product(product).quantity(10).unitPrice(1.0)
+                .lastUpdated(LocalDateTime.now()).build()).getId();
+        entityManager.flush();
+    }
+
+    @Test
+    void releaseKeepsConcurrentReservations() {
+        inventoryRepository.reserveQuantities(List.of(inventoryId), List.of(3));
+        // Another checkout reserves on the same row before the first order is cancelled
+        inventoryRepository.reserveQuantities(List.of(inventoryId), List.of(2));
+
+        assertThat(inventoryRepository.releaseReserved(inventoryId, 3)).isEqualTo(1);
+
+        assertThat(row()).containsEntry("QUANTITY", 10).containsEntry("RESERVED_QUANTITY", 2);
+    }
+
+    @Test
+    void consumeTakesStockAndReservationTogether() {
+        inventoryRepository.reserveQuantities(List.of(inventoryId), List.of(4));
+
+        assertThat(inventoryRepository.consumeReserved(inventoryId, 4, LocalDateTime.now())).isEqualTo(1);
+
+        assertThat(row()).containsEntry("QUANTITY", 6).containsEntry("RESERVED_QUANTITY", 0);
+    }
+
+    @Test
+    void settlingMoreThanIsReservedChangesNothing() {
+        inventoryRepository.reserveQuantities(List.of(inventoryId), List.of(2));
+
+        assertThat(inventoryRepository.releaseReserved(inventoryId, 3)).isZero();
+        assertThat(inventoryRepository.consumeReserved(inventoryId, 3, LocalDateTime.now())).isZero();
+
+        assertThat(row()).containsEntry("QUANTITY", 10).containsEntry("RESERVED_QUANTITY", 2);
+    }
+
+    private Map<String, Object> row() {
+        return jdbcTemplate.queryForMap("SELECT quantity, reserved_quantity FROM inventory WHERE id = ?", inventoryId);
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,238 @@
+package Commerce360.repository;
+
+import Commerce360.dto.CartDTO;
+import Commerce360.dto.InventoryDTO;
+import Commerce360.dto.OrderDTO;
+import Commerce360.dto.ProductDTO;
+import Commerce360.dto.PurchaseOrderDTO;
+import Commerce360.dto.SupplierProductDTO;
+import Commerce360.entity.ApprovalStatus;
+import Commerce360.entity.Cart;
+import Commerce360.entity.CartItem;
+import Commerce360.entity.CartStatus;
+import Commerce360.entity.Customer;
+import Commerce360.entity.Inventory;
+import Commerce360.entity.Order;
+import Commerce360.entity.OrderItem;
+import Commerce360.entity.OrderStatus;
+import Commerce360.entity.Payment;
+import Commerce360.entity.PaymentStatus;
+import Commerce360.entity.Product;
+import Commerce360.entity.PurchaseOrder;
+import Commerce360.entity.PurchaseOrderItem;
+import Commerce360.entity.PurchaseOrderStatus;
+import Commerce360.entity.Store;
+import Commerce360.entity.StoreManager;
+import Commerce360.entity.Supplier;
+import Commerce360.entity.SupplierProduct;
+import Commerce360.entity.User;
+import Commerce360.entity.UserRole;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static Commerce360.repository.StatementCounter.assertStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Each listing endpoint's query and DTO mapping, run as the service runs it, must cost the same number of
+// statements whatever the page holds: one page query, one count and one batch per mapped collection.
+// Every row has several children, so a lazy load per row or per child would push the count past the limit.
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=Commerce360.repository.StatementCounter"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ListingStatementCountTest {
+
+    private static final int ROWS = 5;
+    private static final int ITEMS_PER_ROW = 2;
+    // Smaller than ROWS, so every listing also runs its count query
+    private static final Pageable PAGE = PageRequest.of(0, ROWS - 1);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PurchaseOrderRepository purchaseOrderRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private SupplierProductRepository supplierProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private TransactionTemplate readOnlyTransaction;
+    private Customer customer;
+    private Store store;
+    private Supplier supplier;
+
+    @BeforeAll
+    void createCatalog() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            StoreManager manager = persist(StoreManager.builder().user(user(UserRole.STORE_MANAGER))
+                    .createdAt(LocalDateTime.now()).build());
+            customer = persist(Customer.builder().user(user(UserRole.CUSTOMER))
+                    .createdAt(LocalDateTime.now()).build());
+            supplier = persist(Supplier.builder().user(user(UserRole.SUPPLIER)).companyName("Supplier").build());
+            store = persist(Store.builder().name("Store").location("Lahore").owner(manager).build());
+            // Two stores in the customer's carts
+            Store otherStore = persist(Store.builder().name("Other store").location("Karachi").owner(manager).build());
+
+            for (int row = 0; row < ROWS; row++) {
+                List<Product> products = List.of(product(row, 0), product(row, 1));
+                order(row, products);
+                purchaseOrder(row, products);
+                products.forEach(product -> persist(Inventory.builder().store(store).product(product).quantity(10)
+                        .unitPrice(1.0).lastUpdated(LocalDateTime.now()).build()));
+            }
+            cart(store);
+            cart(otherStore);
+        });
+    }
+
+    @Test
+    void customerOrders() {
+        assertListing(3, status -> orderRepository.findByCustomer(customer, PAGE).map(OrderDTO::fromEntity));
+    }
+
+    @Test
+    void storeOrders() {
+        assertListing(3, status -> orderRepository.findByStore(store, PAGE).map(OrderDTO::fromEntity));
+        assertListing(3, status -> orderRepository.findByStoreAndStatus(store, OrderStatus.PENDING, PAGE)
+                .map(OrderDTO::fromEntity));
+    }
+
+    @Test
+    void storePurchaseOrders() {
+        assertListing(3, status -> purchaseOrderRepository.findByStore(store, PAGE).map(PurchaseOrderDTO::fromEntity));
+        assertListing(3, status -> purchaseOrderRepository.findByStoreAndStatus(store, PurchaseOrderStatus.SUBMITTED,
+                PAGE).map(PurchaseOrderDTO::fromEntity));
+    }
+
+    @Test
+    void supplierPurchaseOrders() {
+        assertListing(3, status -> purchaseOrderRepository.findBySupplier(supplier, PAGE)
+                .map(PurchaseOrderDTO::fromEntity));
+        assertListing(3, status -> purchaseOrderRepository.findBySupplierAndStatus(supplier,
+                PurchaseOrderStatus.SUBMITTED, PAGE).map(PurchaseOrderDTO::fromEntity));
+    }
+
+    @Test
+    void storeInventory() {
+        assertListing(2, status -> inventoryRepository.findAll(
+                (Specification<Inventory>) (root, query, cb) -> cb.equal(root.get("store"), store), PAGE)
+                .map(InventoryDTO::fromEntity));
+    }
+
+    @Test
+    void customerCarts() {
+        assertStatements(1, () -> {
+            List<CartDTO> carts = readOnlyTransaction.execute(status -> cartRepository
+                    .findByCustomerAndStatus(customer, CartStatus.ACTIVE).stream()
+                    .map(CartDTO::fromEntity)
+                    .toList());
+            assertThat(carts).hasSize(2).allSatisfy(cart -> assertThat(cart.getItems()).hasSize(ITEMS_PER_ROW));
+        });
+    }
+
+    @Test
+    void supplierProducts() {
+        assertListing(2, status -> supplierProductRepository.findBySupplier(supplier, PAGE)
+                .map(SupplierProductDTO::fromEntity));
+        assertListing(2, status -> supplierProductRepository.findBySupplierAndIsActive(supplier, true, PAGE)
+                .map(SupplierProductDTO::fromEntity));
+        assertListing(2, status -> supplierProductRepository.findAllAvailableProducts(PAGE)
+                .map(SupplierProductDTO::fromEntity));
+    }
+
+    @Test
+    void products() {
+        assertListing(2, status -> productRepository.findAll(PAGE).map(ProductDTO::fromEntity));
+        assertListing(2, status -> productRepository.findByCategory("category", PAGE).map(ProductDTO::fromEntity));
+    }
+
+    // Runs in a fresh read-only transaction, as the services do, so nothing is served from an earlier context
+    private void assertListing(int expected, TransactionCallback<Page<?>> listing) {
+        assertStatements(expected, () -> {
+            Page<?> page = readOnlyTransaction.execute(listing);
+            assertThat(page.getContent()).hasSize(PAGE.getPageSize());
+        });
+    }
+
+    private User user(UserRole role) {
+        return persist(User.builder().email(UUID.randomUUID() + "@example.com").password("x").firstName("First")
+                .lastName("Last").role(role).approvalStatus(ApprovalStatus.APPROVED)
+                .registrationDate(LocalDateTime.now()).build());
+    }
+
+    private Product product(int row, int item) {
+        Product product = persist(Product.builder().sku("SKU-" + row + "-" + item).name("Product " + row + "-" + item)
+                .category("category").price(BigDecimal.ONE).supplier(supplier).build());
+        persist(SupplierProduct.builder().supplier(supplier).product(product).supplierPrice(BigDecimal.ONE)
+                .stockAvailable(10).build());
+        return product;
+    }
+
+    private void order(int row, List<Product> products) {
+        Order order = persist(Order.builder().orderNumber("ORD-" + row).customer(customer).store(store)
+                .orderDate(LocalDateTime.now()).totalAmount(BigDecimal.TEN).status(OrderStatus.PENDING)
+                .paymentStatus(PaymentStatus.SUCCEEDED).createdAt(LocalDateTime.now()).build());
+        products.forEach(product -> persist(OrderItem.builder().order(order).product(product).quantity(1)
+                .unitPrice(BigDecimal.ONE).totalPrice(BigDecimal.ONE).build()));
+        persist(Payment.builder().stripePaymentIntentId("pi_" + row).clientSecret("secret").amount(BigDecimal.TEN)
+                .currency("usd").status(PaymentStatus.SUCCEEDED).order(order).customer(customer).build());
+    }
+
+    private void purchaseOrder(int row, List<Product> products) {
+        PurchaseOrder purchaseOrder = persist(PurchaseOrder.builder().orderNumber("PO-" + row).store(store)
+                .supplier(supplier).orderDate(LocalDateTime.now()).totalAmount(BigDecimal.TEN)
+                .status(PurchaseOrderStatus.SUBMITTED).build());
+        products.forEach(product -> persist(PurchaseOrderItem.builder().purchaseOrder(purchaseOrder)
+                .supplierProduct(supplierProductRepository.findBySupplierAndProduct(supplier, product).orElseThrow())
+                .quantity(1).unitPrice(BigDecimal.ONE).totalPrice(BigDecimal.ONE).build()));
+    }
+
+    private void cart(Store cartStore) {
+        Cart cart = persist(Cart.builder().customer(customer).store(cartStore).createdAt(LocalDateTime.now()).build());
+        productRepository.findAll(PageRequest.of(0, ITEMS_PER_ROW)).forEach(product -> persist(CartItem.builder()
+                .cart(cart).product(product).quantity(1).unitPrice(BigDecimal.ONE).addedAt(LocalDateTime.now())
+                .build()));
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,43 @@
+package Commerce360.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Records every SQL statement Hibernate prepares. Register it with
+// spring.jpa.properties.hibernate.session_factory.statement_inspector=Commerce360.repository.StatementCounter
+// and wrap the code under test in assertStatements. Hibernate creates the instance, so the log is static;
+// tests using it must not run their queries in parallel.
+public class StatementCounter implements StatementInspector {
+
+    private static final List<String> statements = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (statements) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public static List<String> record(Runnable action) {
+        synchronized (statements) {
+            statements.clear();
+        }
+        action.run();
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+
+    // Fails with the statements that ran, which usually points straight at the lazy load that slipped in
+    public static void assertStatements(int expected, Runnable action) {
+        List<String> executed = record(action);
+        assertThat(executed)
+                .as("SQL statements:%n%s", String.join(System.lineSeparator(), executed))
+                .hasSize(expected);
+    }
+}
@@ -0,0 +1,104 @@
+package Commerce360.security;
+
+import Commerce360.entity.ApprovalStatus;
+import Commerce360.entity.UserRole;
+import Commerce360.repository.RefreshTokenFamilyRepository;
+import Commerce360.security.RefreshTokenStore.RotationResult;
+import Commerce360.security.RefreshTokenStore.TokenFamily;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Each store call commits on its own, as it does when two replicas share the database
+@DataJpaTest(properties = { "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "security.refresh-tokens.store=database" })
+@Import(DatabaseRefreshTokenStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DatabaseRefreshTokenStoreTest {
+
+    private static final AuthenticatedUser USER = new AuthenticatedUser(UUID.randomUUID(), "user@example.com",
+            UserRole.CUSTOMER, ApprovalStatus.APPROVED);
+
+    @Autowired
+    private DatabaseRefreshTokenStore store;
+
+    @Autowired
+    private RefreshTokenFamilyRepository familyRepository;
+
+    @BeforeEach
+    void setUp() {
+        familyRepository.deleteAll();
+    }
+
+    @Test
+    void rotatesTheCurrentToken() {
+        store.save(new TokenFamily("family", USER, "token-1", inOneDay()));
+
+        assertThat(store.rotate("family", "token-1", "token-2", inOneDay())).isEqualTo(RotationResult.ROTATED);
+        assertThat(store.find("family")).get()
+                .satisfies(family -> {
+                    assertThat(family.currentTokenId()).isEqualTo("token-2");
+                    assertThat(family.user()).isEqualTo(USER);
+                });
+    }
+
+    @Test
+    void replayedTokenRevokesTheFamily() {
+        store.save(new TokenFamily("family", USER, "token-1", inOneDay()));
+        store.rotate("family", "token-1", "token-2", inOneDay());
+
+        assertThat(store.rotate("family", "token-1", "token-3", inOneDay())).isEqualTo(RotationResult.REUSED);
+        assertThat(store.find("family")).isEmpty();
+        // The legitimate holder's token is revoked with the family
+        assertThat(store.rotate("family", "token-2", "token-4", inOneDay())).isEqualTo(RotationResult.UNKNOWN);
+    }
+
+    @Test
+    void expiredFamilyIsUnknown() {
+        store.save(new TokenFamily("family", USER, "token-1", Instant.now().minusSeconds(1)));
+
+        assertThat(store.find("family")).isEmpty();
+        assertThat(store.rotate("family", "token-1", "token-2", inOneDay())).isEqualTo(RotationResult.UNKNOWN);
+        assertThat(familyRepository.existsById("family")).isFalse();
+    }
+
+    @Test
+    void revokeUserDropsEveryFamilyOfThatUser() {
+        AuthenticatedUser other = new AuthenticatedUser(UUID.randomUUID(), "other@example.com", UserRole.ADMIN,
+                ApprovalStatus.APPROVED);
+        store.save(new TokenFamily("phone", USER, "token-1", inOneDay()));
+        store.save(new TokenFamily("laptop", USER, "token-2", inOneDay()));
+        store.save(new TokenFamily("admin", other, "token-3", inOneDay()));
+
+        store.revokeUser(USER.email());
+
+        assertThat(store.find("phone")).isEmpty();
+        assertThat(store.find("laptop")).isEmpty();
+        assertThat(store.find("admin")).isPresent();
+    }
+
+    @Test
+    void evictionRemovesOnlyExpiredFamilies() {
+        store.save(new TokenFamily("expired", USER, "token-1", Instant.now().minusSeconds(1)));
+        store.save(new TokenFamily("live", USER, "token-2", inOneDay()));
+
+        store.evictExpired();
+
+        assertThat(familyRepository.existsById("expired")).isFalse();
+        assertThat(familyRepository.existsById("live")).isTrue();
+    }
+
+    private static Instant inOneDay() {
+        return Instant.now().plus(Duration.ofDays(1));
+    }
+}
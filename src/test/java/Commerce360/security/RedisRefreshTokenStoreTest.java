@@ -0,0 +1,110 @@
+package Commerce360.security;
+
+import Commerce360.entity.ApprovalStatus;
+import Commerce360.entity.UserRole;
+import Commerce360.security.RefreshTokenStore.RotationResult;
+import Commerce360.security.RefreshTokenStore.TokenFamily;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the Lua scripts against a real Redis. Skipped when Docker is not available.
+@Testcontainers(disabledWithoutDocker = true)
+class RedisRefreshTokenStoreTest {
+
+    private static final AuthenticatedUser USER = new AuthenticatedUser(UUID.randomUUID(), "user@example.com",
+            UserRole.CUSTOMER, ApprovalStatus.APPROVED);
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final RedisRefreshTokenStore store = new RedisRefreshTokenStore(redisTemplate);
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    void rotatesTheCurrentToken() {
+        store.save(new TokenFamily("family", USER, "token-1", inOneDay()));
+
+        assertThat(store.rotate("family", "token-1", "token-2", inOneDay())).isEqualTo(RotationResult.ROTATED);
+        assertThat(store.find("family")).get()
+                .satisfies(family -> {
+                    assertThat(family.currentTokenId()).isEqualTo("token-2");
+                    assertThat(family.user()).isEqualTo(USER);
+                });
+    }
+
+    @Test
+    void replayedTokenRevokesTheFamily() {
+        store.save(new TokenFamily("family", USER, "token-1", inOneDay()));
+        store.rotate("family", "token-1", "token-2", inOneDay());
+
+        assertThat(store.rotate("family", "token-1", "token-3", inOneDay())).isEqualTo(RotationResult.REUSED);
+        assertThat(store.find("family")).isEmpty();
+        // The legitimate holder's token is revoked with the family
+        assertThat(store.rotate("family", "token-2", "token-4", inOneDay())).isEqualTo(RotationResult.UNKNOWN);
+    }
+
+    @Test
+    void familiesExpireWithTheirToken() {
+        store.save(new TokenFamily("family", USER, "token-1", Instant.now().plusSeconds(60)));
+
+        assertThat(redisTemplate.getExpire(RedisRefreshTokenStore.FAMILY_PREFIX + "family")).isBetween(1L, 60L);
+        store.rotate("family", "token-1", "token-2", inOneDay());
+        assertThat(redisTemplate.getExpire(RedisRefreshTokenStore.FAMILY_PREFIX + "family")).isGreaterThan(60L);
+        // The user's family set lives as long as the family it tracks
+        assertThat(redisTemplate.getExpire(RedisRefreshTokenStore.USER_PREFIX + USER.email()))
+                .isGreaterThan(60L);
+    }
+
+    @Test
+    void revokeUserDropsEveryFamilyOfThatUser() {
+        AuthenticatedUser other = new AuthenticatedUser(UUID.randomUUID(), "other@example.com", UserRole.ADMIN,
+                ApprovalStatus.APPROVED);
+        store.save(new TokenFamily("phone", USER, "token-1", inOneDay()));
+        store.save(new TokenFamily("laptop", USER, "token-2", inOneDay()));
+        store.save(new TokenFamily("admin", other, "token-3", inOneDay()));
+
+        store.revokeUser(USER.email());
+
+        assertThat(store.find("phone")).isEmpty();
+        assertThat(store.find("laptop")).isEmpty();
+        assertThat(store.find("admin")).isPresent();
+    }
+
+    private static Instant inOneDay() {
+        return Instant.now().plus(Duration.ofDays(1));
+    }
+}
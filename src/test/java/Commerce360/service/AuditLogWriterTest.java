@@ -0,0 +1,114 @@
+package Commerce360.service;
+
+import Commerce360.config.AuditWriterConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuditLogWriterTest {
+
+    private static final String POISON = "POISON";
+
+    @TempDir
+    Path dir;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<String> inserted = new ArrayList<>();
+    private AuditWriterConfig config;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        config = new AuditWriterConfig();
+        config.setFlushIntervalMillis(10);
+        config.setSpillPath(dir.resolve("audit-spill.jsonl").toString());
+
+        // Single inserts succeed unless the event's action marks it as poison
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            PreparedStatement ps = mock(PreparedStatement.class);
+            List<String> actions = new ArrayList<>();
+            doAnswer(set -> actions.add(set.getArgument(1))).when(ps).setString(anyInt(),
+                    anyString());
+            invocation.<PreparedStatementSetter>getArgument(1).setValues(ps);
+            if (actions.contains(POISON)) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            inserted.add(actions.get(0));
+            return 1;
+        });
+    }
+
+    @Test
+    void rejectedBatchIsRetriedRowByRowAndPoisonRowsAreDeadLettered() throws Exception {
+        failBatchesWith(new DataIntegrityViolationException("value too long"));
+
+        write(event("A"), event(POISON), event("B"));
+
+        assertThat(inserted).containsExactly("A", "B");
+        assertThat(lines("audit-spill.jsonl.dead")).hasSize(1).allMatch(line -> line.contains(POISON));
+        assertThat(Files.exists(dir.resolve("audit-spill.jsonl"))).isFalse();
+        assertThat(registry.counter("audit.events.dead_lettered").count()).isEqualTo(1);
+        assertThat(registry.counter("audit.events.written").count()).isEqualTo(2);
+    }
+
+    @Test
+    void unreachableDatabaseSpillsTheWholeBatch() throws Exception {
+        failBatchesWith(new DataAccessResourceFailureException("connection refused"));
+
+        write(event("A"), event("B"));
+
+        assertThat(inserted).isEmpty();
+        assertThat(lines("audit-spill.jsonl")).hasSize(2);
+        assertThat(Files.exists(dir.resolve("audit-spill.jsonl.dead"))).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void failBatchesWith(RuntimeException failure) {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(failure);
+    }
+
+    private void write(AuditEvent... events) throws InterruptedException {
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, config, objectMapper, registry);
+        for (AuditEvent event : events) {
+            writer.submit(event);
+        }
+        writer.start();
+        writer.stop();
+    }
+
+    private List<String> lines(String file) throws Exception {
+        return Files.readAllLines(dir.resolve(file));
+    }
+
+    private static AuditEvent event(String action) {
+        return new AuditEvent(UUID.randomUUID(), LocalDateTime.now(), null, null, action, "Product",
+                UUID.randomUUID(), null, "127.0.0.1", "test");
+    }
+}
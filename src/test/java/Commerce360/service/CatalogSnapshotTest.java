@@ -0,0 +1,57 @@
+package Commerce360.service;
+
+import Commerce360.dto.ProductDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSnapshotTest {
+
+    private static final List<String> NAMES = List.of("banana", "Apple", "éclair", "Banana", "apple", "Zucchini",
+            "eclair");
+
+    @Test
+    void textSortsFollowTheDatabaseCollation() {
+        CatalogSnapshot snapshot = new CatalogSnapshot(products(), Collator.getInstance(Locale.US), 1, 0);
+
+        // en_US: case and accents only break ties, lowercase first
+        assertThat(names(snapshot, Sort.Direction.ASC))
+                .containsExactly("apple", "Apple", "banana", "Banana", "eclair", "éclair", "Zucchini");
+        assertThat(names(snapshot, Sort.Direction.DESC))
+                .containsExactly("Zucchini", "éclair", "eclair", "Banana", "banana", "Apple", "apple");
+    }
+
+    @Test
+    void withoutCollatorTextSortsByCharacterValue() {
+        CatalogSnapshot snapshot = new CatalogSnapshot(products(), null, 1, 0);
+
+        assertThat(names(snapshot, Sort.Direction.ASC))
+                .containsExactly("Apple", "Banana", "Zucchini", "apple", "banana", "eclair", "éclair");
+    }
+
+    private static List<String> names(CatalogSnapshot snapshot, Sort.Direction direction) {
+        return snapshot.page(null, null, PageRequest.of(0, 20, Sort.by(direction, "name")))
+                .orElseThrow()
+                .map(ProductDTO::getName)
+                .getContent();
+    }
+
+    private static List<ProductDTO> products() {
+        List<ProductDTO> products = new ArrayList<>();
+        for (String name : NAMES) {
+            products.add(ProductDTO.builder().id(UUID.randomUUID()).sku(name).name(name).category("fruit").build());
+        }
+        // The snapshot expects database id order
+        products.sort(Comparator.comparing(product -> product.getId().toString()));
+        return products;
+    }
+}
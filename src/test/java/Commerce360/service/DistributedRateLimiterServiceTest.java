@@ -0,0 +1,149 @@
+package Commerce360.service;
+
+import Commerce360.config.RateLimiterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two DistributedRateLimiterService instances stand in for two replicas sharing one InMemoryTokenBucket
+class DistributedRateLimiterServiceTest {
+
+    private static final String CLIENT = "user:test@example.com";
+    // Long enough that nothing refills or expires during a test unless it waits on purpose
+    private static final long NO_LEAK = 60_000;
+
+    private RateLimiterConfig config;
+    private CountingBucket bucket;
+
+    @BeforeEach
+    void setUp() {
+        config = new RateLimiterConfig();
+        config.setDistributedBatchSize(5);
+        config.setDistributedLeaseMillis(60_000);
+        bucket = new CountingBucket(new InMemoryTokenBucket());
+    }
+
+    @Test
+    void batchIsSpentLocallyBeforeAskingAgain() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        DistributedRateLimiterService limiter = node(bucket, registry);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.acquire(CLIENT, 20, NO_LEAK).allowed()).isTrue();
+        }
+        assertThat(bucket.calls).hasValue(1);
+        assertThat(registry.counter("rate_limiter.remote.calls").count()).isEqualTo(1);
+
+        // The lease is used up; the sixth request fetches the next batch
+        assertThat(limiter.acquire(CLIENT, 20, NO_LEAK).allowed()).isTrue();
+        assertThat(bucket.calls).hasValue(2);
+    }
+
+    @Test
+    void replicasNeverAdmitMoreThanTheSharedCapacity() {
+        DistributedRateLimiterService nodeA = node(bucket, new SimpleMeterRegistry());
+        DistributedRateLimiterService nodeB = node(bucket, new SimpleMeterRegistry());
+
+        int allowed = 0;
+        for (int i = 0; i < 50; i++) {
+            DistributedRateLimiterService node = i % 2 == 0 ? nodeA : nodeB;
+            if (node.acquire(CLIENT, 12, NO_LEAK).allowed()) {
+                allowed++;
+            }
+        }
+        assertThat(allowed).isEqualTo(12);
+    }
+
+    @Test
+    void batchIsCappedByCapacity() {
+        DistributedRateLimiterService limiter = node(bucket, new SimpleMeterRegistry());
+
+        assertThat(limiter.acquire(CLIENT, 2, NO_LEAK).remaining()).isEqualTo(1);
+        assertThat(bucket.lastRequested).hasValue(2);
+    }
+
+    @Test
+    void rejectionIsRememberedForTheLease() {
+        DistributedRateLimiterService limiter = node(bucket, new SimpleMeterRegistry());
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(CLIENT, 3, NO_LEAK);
+        }
+        assertThat(limiter.acquire(CLIENT, 3, NO_LEAK).allowed()).isFalse();
+        int calls = bucket.calls.get();
+
+        RateLimitDecision decision = limiter.acquire(CLIENT, 3, NO_LEAK);
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.retryAfterMillis()).isPositive();
+        assertThat(bucket.calls).hasValue(calls);
+    }
+
+    @Test
+    void expiredLeaseAsksTheSharedBucketAgain() throws InterruptedException {
+        config.setDistributedLeaseMillis(20);
+        DistributedRateLimiterService limiter = node(bucket, new SimpleMeterRegistry());
+
+        limiter.acquire(CLIENT, 20, NO_LEAK);
+        Thread.sleep(50);
+        limiter.acquire(CLIENT, 20, NO_LEAK);
+
+        assertThat(bucket.calls).hasValue(2);
+    }
+
+    @Test
+    void sharedBucketRefillsOverTime() throws InterruptedException {
+        config.setDistributedLeaseMillis(1);
+        DistributedRateLimiterService limiter = node(bucket, new SimpleMeterRegistry());
+        for (int i = 0; i < 2; i++) {
+            limiter.acquire(CLIENT, 2, 20);
+        }
+        Thread.sleep(5);
+        assertThat(limiter.acquire(CLIENT, 2, 20).allowed()).isFalse();
+
+        Thread.sleep(60);
+        assertThat(limiter.acquire(CLIENT, 2, 20).allowed()).isTrue();
+    }
+
+    @Test
+    void failingStoreFallsBackToTheLocalLimiter() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        DistributedRateLimiterService limiter = node((key, requested, capacity, leakIntervalMillis) -> {
+            throw new IllegalStateException("store down");
+        }, registry);
+
+        assertThat(limiter.acquire(CLIENT, 1, NO_LEAK).allowed()).isTrue();
+        assertThat(limiter.acquire(CLIENT, 1, NO_LEAK).allowed()).isFalse();
+        // Only the first call reached the store; the rest wait out distributedRetryMillis
+        assertThat(registry.counter("rate_limiter.remote.calls").count()).isEqualTo(1);
+        assertThat(registry.counter("rate_limiter.remote.fallbacks").count()).isEqualTo(2);
+    }
+
+    private DistributedRateLimiterService node(RemoteTokenBucket remote, MeterRegistry registry) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("remoteTokenBucket", remote);
+        return new DistributedRateLimiterService(new RateLimiterService(registry, config),
+                beans.getBeanProvider(RemoteTokenBucket.class), config, registry);
+    }
+
+    private static final class CountingBucket implements RemoteTokenBucket {
+        private final RemoteTokenBucket delegate;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger lastRequested = new AtomicInteger();
+
+        CountingBucket(RemoteTokenBucket delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int take(String key, int requested, int capacity, long leakIntervalMillis) {
+            calls.incrementAndGet();
+            lastRequested.set(requested);
+            return delegate.take(key, requested, capacity, leakIntervalMillis);
+        }
+    }
+}
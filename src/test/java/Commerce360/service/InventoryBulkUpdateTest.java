@@ -0,0 +1,127 @@
+package Commerce360.service;
+
+import Commerce360.config.CacheSettings;
+import Commerce360.dto.BulkInventoryRequest.BulkInventoryLine;
+import Commerce360.entity.ApprovalStatus;
+import Commerce360.entity.Inventory;
+import Commerce360.entity.Product;
+import Commerce360.entity.Store;
+import Commerce360.entity.StoreManager;
+import Commerce360.entity.TransactionType;
+import Commerce360.entity.User;
+import Commerce360.entity.UserRole;
+import Commerce360.repository.InventoryRepository;
+import Commerce360.repository.ProductRepository;
+import Commerce360.repository.StoreRepository;
+import Commerce360.repository.TransactionRepository;
+import Commerce360.security.SecurityContextUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class InventoryBulkUpdateTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    // Needed by the Transaction entity listener
+    @MockitoBean
+    private TransactionRollupService transactionRollupService;
+
+    private InventoryService inventoryService;
+    private Store store;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        User user = persist(User.builder().email(UUID.randomUUID() + "@example.com").password("x")
+                .firstName("First").lastName("Last").role(UserRole.STORE_MANAGER)
+                .approvalStatus(ApprovalStatus.APPROVED).registrationDate(LocalDateTime.now()).build());
+        StoreManager manager = persist(StoreManager.builder().user(user).createdAt(LocalDateTime.now()).build());
+        store = persist(Store.builder().name("Store " + UUID.randomUUID()).location("Lahore").owner(manager).build());
+        product = persist(Product.builder().sku("SKU-" + UUID.randomUUID()).name("Milk").category("dairy")
+                .price(BigDecimal.ONE).build());
+
+        SecurityContextUtil securityContextUtil = mock(SecurityContextUtil.class);
+        when(securityContextUtil.getCurrentUser()).thenReturn(Optional.of(user));
+        inventoryService = new InventoryService(inventoryRepository, storeRepository, productRepository,
+                transactionRepository, mock(AuditLogService.class), securityContextUtil,
+                new LocalCache(new StaticListableBeanFactory().getBeanProvider(RemoteCacheStore.class),
+                        new ObjectMapper(), new CacheSettings(), new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(inventoryService, "entityManager", entityManager);
+    }
+
+    @Test
+    void undatedStockInLeavesExpiringBatchesAlone() {
+        Inventory batch = batch(50, LocalDateTime.now().plusDays(3), "B-1");
+        Inventory undated = batch(5, null, null);
+
+        inventoryService.bulkUpdate(store.getId(), List.of(stockIn(10)));
+
+        assertThat(reload(batch)).extracting(Inventory::getQuantity, Inventory::getBatchNumber)
+                .containsExactly(50, "B-1");
+        assertThat(reload(undated).getQuantity()).isEqualTo(15);
+    }
+
+    @Test
+    void undatedStockInCreatesTheNonExpiringRow() {
+        Inventory batch = batch(50, LocalDateTime.now().plusDays(3), "B-1");
+
+        inventoryService.bulkUpdate(store.getId(), List.of(stockIn(10)));
+
+        assertThat(reload(batch).getQuantity()).isEqualTo(50);
+        assertThat(inventoryRepository.findFirstByStoreAndProductAndExpiryDateIsNull(store, product))
+                .get().extracting(Inventory::getQuantity).isEqualTo(10);
+    }
+
+    private BulkInventoryLine stockIn(int quantity) {
+        return BulkInventoryLine.builder().type(TransactionType.STOCK_IN).productId(product.getId())
+                .quantity(quantity).build();
+    }
+
+    private Inventory batch(int quantity, LocalDateTime expiryDate, String batchNumber) {
+        return persist(Inventory.builder().store(store).product(product).quantity(quantity).unitPrice(1.0)
+                .expiryDate(expiryDate).batchNumber(batchNumber).lastUpdated(LocalDateTime.now()).build());
+    }
+
+    private Inventory reload(Inventory inventory) {
+        entityManager.flush();
+        entityManager.clear();
+        return inventoryRepository.findById(inventory.getId()).orElseThrow();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
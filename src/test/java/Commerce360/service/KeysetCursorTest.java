@@ -0,0 +1,72 @@
+package Commerce360.service;
+
+import Commerce360.entity.Order;
+import Commerce360.exception.InvalidQueryParameterException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("orderDate"), Sort.Order.desc("id"));
+
+    @Test
+    void roundTripsTheSortKeys() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("orderDate", LocalDateTime.of(2024, 5, 1, 12, 30));
+        keys.put("id", UUID.randomUUID());
+
+        KeysetScrollPosition decoded = KeysetCursor.decode(KeysetCursor.encode(ScrollPosition.forward(keys)),
+                NEWEST_FIRST, Order.class);
+
+        assertThat(decoded.getKeys()).isEqualTo(keys);
+    }
+
+    @Test
+    void missingCursorStartsAtTheFirstRow() {
+        assertThat(KeysetCursor.decode(null, NEWEST_FIRST, Order.class).isInitial()).isTrue();
+    }
+
+    @Test
+    void rejectsAMissingKey() {
+        assertInvalid("id=u:" + UUID.randomUUID() + "\n");
+    }
+
+    @Test
+    void rejectsAnUnknownProperty() {
+        assertInvalid("orderDate=t:2024-05-01T12:30\nid=u:" + UUID.randomUUID() + "\npassword=s:\n");
+        assertInvalid("totalAmount=t:2024-05-01T12:30\nid=u:" + UUID.randomUUID() + "\n");
+    }
+
+    @Test
+    void rejectsAValueOfTheWrongType() {
+        assertInvalid("orderDate=l:5\nid=u:" + UUID.randomUUID() + "\n");
+        assertInvalid("orderDate=n:\nid=u:" + UUID.randomUUID() + "\n");
+    }
+
+    @Test
+    void rejectsGarbage() {
+        assertInvalid("no separator");
+        assertThatThrownBy(() -> KeysetCursor.decode("!!!", NEWEST_FIRST, Order.class))
+                .isInstanceOf(InvalidQueryParameterException.class);
+    }
+
+    private static void assertInvalid(String token) {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(token.getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, NEWEST_FIRST, Order.class))
+                .isInstanceOf(InvalidQueryParameterException.class)
+                .hasMessage("Invalid cursor");
+    }
+}
@@ -0,0 +1,158 @@
+package Commerce360.service;
+
+import Commerce360.config.CacheName;
+import Commerce360.config.CacheSettings;
+import Commerce360.dto.ProductDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCacheTest {
+
+    private LocalCache cache;
+    private final List<UUID> loads = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        CacheSettings settings = new CacheSettings();
+        CacheSettings.Spec spec = new CacheSettings.Spec();
+        spec.setMaxEntries(2);
+        settings.getSpecs().put(CacheName.PRODUCT.getName(), spec);
+        cache = new LocalCache(new StaticListableBeanFactory().getBeanProvider(RemoteCacheStore.class),
+                new ObjectMapper(), settings, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void fullRegionDropsTheLeastRecentlyUsedEntry() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        get(a);
+        get(b);
+        // Reading a makes b the eldest entry
+        get(a);
+        get(c);
+        loads.clear();
+
+        get(a);
+        get(c);
+        get(b);
+
+        assertThat(loads).containsExactly(b);
+    }
+
+    @Test
+    void evictRemovesTheEntry() {
+        UUID a = UUID.randomUUID();
+        get(a);
+        cache.evict(CacheName.PRODUCT, a);
+        get(a);
+
+        assertThat(loads).containsExactly(a, a);
+    }
+
+    @Test
+    void sharedTierServesAndInvalidatesOtherReplicas() {
+        SharedStore shared = new SharedStore();
+        LocalCache first = replica(shared);
+        LocalCache second = replica(shared);
+        UUID a = UUID.randomUUID();
+
+        get(first, a);
+        get(second, a);
+        assertThat(loads).containsExactly(a);
+
+        first.evict(CacheName.PRODUCT, a);
+        get(second, a);
+        assertThat(loads).containsExactly(a, a);
+    }
+
+    @Test
+    void failingSharedTierFallsBackToTheNearTier() {
+        SharedStore shared = new SharedStore();
+        LocalCache replica = replica(shared);
+        shared.failing = true;
+        UUID a = UUID.randomUUID();
+
+        get(replica, a);
+        get(replica, a);
+
+        assertThat(loads).containsExactly(a);
+    }
+
+    private void get(UUID id) {
+        get(cache, id);
+    }
+
+    private LocalCache replica(SharedStore shared) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("remoteCacheStore", shared);
+        LocalCache replica = new LocalCache(beans.getBeanProvider(RemoteCacheStore.class),
+                new ObjectMapper().findAndRegisterModules(), new CacheSettings(), new SimpleMeterRegistry());
+        replica.subscribe();
+        return replica;
+    }
+
+    private void get(LocalCache cache, UUID id) {
+        cache.get(CacheName.PRODUCT, id, () -> {
+            loads.add(id);
+            return ProductDTO.builder().id(id).build();
+        });
+    }
+
+    // Stands in for Redis: one keyspace and one invalidation channel shared by every replica
+    private static final class SharedStore implements RemoteCacheStore {
+        private final Map<String, byte[]> values = new HashMap<>();
+        private final List<Consumer<String>> listeners = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public byte[] get(String key) {
+            check();
+            return values.get(key);
+        }
+
+        @Override
+        public void put(String key, byte[] value, Duration ttl) {
+            check();
+            values.put(key, value);
+        }
+
+        @Override
+        public void evict(String key) {
+            check();
+            values.remove(key);
+            listeners.forEach(listener -> listener.accept(key));
+        }
+
+        @Override
+        public void evictPrefix(String prefix) {
+            check();
+            values.keySet().removeIf(key -> key.startsWith(prefix));
+            listeners.forEach(listener -> listener.accept(prefix + "*"));
+        }
+
+        @Override
+        public void onInvalidation(Consumer<String> listener) {
+            listeners.add(listener);
+        }
+
+        private void check() {
+            if (failing) {
+                throw new IllegalStateException("Redis is down");
+            }
+        }
+    }
+}
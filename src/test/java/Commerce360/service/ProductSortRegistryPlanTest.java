@@ -0,0 +1,104 @@
+package Commerce360.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Every sort key must be read in index order on PostgreSQL, across the whole catalog and within one category;
+// a Sort node means the index behind a key was dropped or no longer matches its ORDER BY. Skipped when Docker
+// is not available; the plan-tests CI workflow runs it.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductSortRegistryPlanTest {
+
+    private static final int PRODUCTS = 20_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Enough rows, with statistics, that the planner would rather sort than walk a missing index
+    @BeforeAll
+    void loadCatalog() {
+        jdbcTemplate.update("INSERT INTO products (id, sku, name, category, price, brand, is_available_to_customers) "
+                + "SELECT gen_random_uuid(), 'SKU-' || g, 'Product ' || g, 'category-' || (g % 20), "
+                + "(g % 1000) / 10.0, 'brand-' || (g % 50), true FROM generate_series(1, ?) g", PRODUCTS);
+        jdbcTemplate.execute("ANALYZE products");
+    }
+
+    static Stream<Arguments> sorts() {
+        return ProductSortRegistry.keys().stream()
+                .flatMap(key -> Stream.of(Arguments.of(key, "asc"), Arguments.of(key, "desc")));
+    }
+
+    // Sort keys backed by an index that leads with category, as the /category/{category} listing needs
+    static Stream<Arguments> categorySorts() {
+        return Stream.of("price", "id", "category")
+                .flatMap(key -> Stream.of(Arguments.of(key, "asc"), Arguments.of(key, "desc")));
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("sorts")
+    void sortedPageIsReadFromAnIndex(String key, String direction) throws Exception {
+        assertReadInIndexOrder("", ProductSortRegistry.resolve(key, direction));
+    }
+
+    @ParameterizedTest(name = "category, {0} {1}")
+    @MethodSource("categorySorts")
+    void sortedCategoryPageIsReadFromAnIndex(String key, String direction) throws Exception {
+        assertReadInIndexOrder("WHERE category = 'category-7' ", ProductSortRegistry.resolve(key, direction));
+    }
+
+    private void assertReadInIndexOrder(String where, Sort sort) throws Exception {
+        String orderBy = sort.stream()
+                .map(order -> order.getProperty() + " " + order.getDirection())
+                .collect(Collectors.joining(", "));
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) SELECT * FROM products " + where
+                + "ORDER BY " + orderBy + " LIMIT " + PAGE_SIZE + " OFFSET " + PAGE_SIZE, String.class);
+        List<String> nodes = new ArrayList<>();
+        collectNodeTypes(objectMapper.readTree(plan).get(0).get("Plan"), nodes);
+
+        assertThat(nodes).as("plan for %sORDER BY %s", where, orderBy)
+                .doesNotContain("Sort", "Incremental Sort")
+                .anyMatch(node -> node.startsWith("Index"));
+    }
+
+    private static void collectNodeTypes(JsonNode plan, List<String> nodes) {
+        nodes.add(plan.get("Node Type").asText());
+        if (plan.has("Plans")) {
+            plan.get("Plans").forEach(child -> collectNodeTypes(child, nodes));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package Commerce360.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the Lua script against a real Redis. Skipped when Docker is not available.
+@Testcontainers(disabledWithoutDocker = true)
+class RedisTokenBucketTest {
+
+    private static final String KEY = "user:test@example.com";
+    private static final long NO_LEAK = 60_000;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final RedisTokenBucket bucket = new RedisTokenBucket(redisTemplate);
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    void grantsUpToCapacity() {
+        assertThat(bucket.take(KEY, 5, 12, NO_LEAK)).isEqualTo(5);
+        assertThat(bucket.take(KEY, 5, 12, NO_LEAK)).isEqualTo(5);
+        assertThat(bucket.take(KEY, 5, 12, NO_LEAK)).isEqualTo(2);
+        assertThat(bucket.take(KEY, 5, 12, NO_LEAK)).isZero();
+    }
+
+    @Test
+    void refillsByTheRedisClock() {
+        bucket.take(KEY, 10, 10, 1000);
+        // Move the last refill three intervals into Redis' past
+        String key = RedisTokenBucket.KEY_PREFIX + KEY;
+        long refilledAt = Long.parseLong((String) redisTemplate.opsForHash().get(key, "ts"));
+        redisTemplate.opsForHash().put(key, "ts", Long.toString(refilledAt - 3000));
+
+        assertThat(bucket.take(KEY, 10, 10, 1000)).isEqualTo(3);
+    }
+
+    @Test
+    void idleBucketsExpireOnceFull() {
+        bucket.take(KEY, 1, 10, 1000);
+
+        assertThat(redisTemplate.getExpire(RedisTokenBucket.KEY_PREFIX + KEY, TimeUnit.MILLISECONDS))
+                .isBetween(1L, 10_000L);
+    }
+
+    @Test
+    void concurrentTakesNeverOverspend() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> takes = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                takes.add(pool.submit(() -> bucket.take(KEY, 3, 50, NO_LEAK)));
+            }
+            int granted = 0;
+            for (Future<Integer> take : takes) {
+                granted += take.get();
+            }
+            assertThat(granted).isEqualTo(50);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package Commerce360.service;
+
+import Commerce360.entity.SchedulerLease;
+import Commerce360.repository.SchedulerLeaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Two SchedulerLeaseService instances stand in for two replicas sharing one database
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchedulerLeaseServiceTest {
+
+    private static final String JOB = "test.job";
+
+    @Autowired
+    private SchedulerLeaseRepository leaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SchedulerLeaseService nodeA;
+    private SchedulerLeaseService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        leaseRepository.deleteAll();
+        nodeA = new SchedulerLeaseService(leaseRepository, transactionManager);
+        nodeB = new SchedulerLeaseService(leaseRepository, transactionManager);
+    }
+
+    @Test
+    void onlyOneNodeHoldsTheLease() {
+        assertThat(nodeA.tryAcquire(JOB, Duration.ofMinutes(5))).isTrue();
+        assertThat(nodeB.tryAcquire(JOB, Duration.ofMinutes(5))).isFalse();
+        // The holder may take it again
+        assertThat(nodeA.tryAcquire(JOB, Duration.ofMinutes(5))).isTrue();
+        assertThat(leaseRepository.findById(JOB)).get()
+                .extracting(SchedulerLease::getOwner)
+                .isEqualTo(nodeA.getNodeId());
+    }
+
+    @Test
+    void expiryIsMeasuredOnTheDatabaseClock() {
+        nodeA.tryAcquire(JOB, Duration.ofMinutes(5));
+        // Expire the lease by the database's own clock, whatever the JVM clock says
+        jdbcTemplate.update("UPDATE scheduler_leases SET lease_until = DATEADD(SECOND, -1, LOCALTIMESTAMP) "
+                + "WHERE name = ?", JOB);
+
+        assertThat(nodeB.tryAcquire(JOB, Duration.ofMinutes(5))).isTrue();
+        SchedulerLease lease = leaseRepository.findById(JOB).orElseThrow();
+        assertThat(lease.getOwner()).isEqualTo(nodeB.getNodeId());
+        assertThat(Duration.between(lease.getAcquiredAt(), lease.getLeaseUntil())).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void runExclusivelySkipsWhileAnotherNodeRuns() {
+        AtomicBoolean innerRan = new AtomicBoolean();
+
+        boolean ran = nodeA.runExclusively(JOB, Duration.ofMinutes(5),
+                () -> assertThat(nodeB.runExclusively(JOB, Duration.ofMinutes(5), () -> innerRan.set(true)))
+                        .isFalse());
+
+        assertThat(ran).isTrue();
+        assertThat(innerRan).isFalse();
+    }
+
+    @Test
+    void failedJobReleasesTheLease() {
+        assertThatThrownBy(() -> nodeA.runExclusively(JOB, Duration.ofMinutes(5), () -> {
+            throw new RuntimeException("boom");
+        })).hasMessage("boom");
+
+        assertThat(nodeB.tryAcquire(JOB, Duration.ofMinutes(5))).isTrue();
+    }
+
+    @Test
+    void jobIsInterruptedWhenTheLeaseIsTakenOver() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        assertThatThrownBy(() -> nodeA.runExclusively(JOB, Duration.ofSeconds(1), () -> {
+            // Another node takes the lease, as it would after renewals stalled past expiry
+            jdbcTemplate.update("UPDATE scheduler_leases SET owner = ? WHERE name = ?", nodeB.getNodeId(), JOB);
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!Thread.currentThread().isInterrupted() && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            interrupted.set(Thread.currentThread().isInterrupted());
+        })).hasMessageContaining("Lost lease");
+
+        assertThat(interrupted).isTrue();
+        // The interrupt does not outlive the job
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        assertThat(leaseRepository.findById(JOB)).get()
+                .extracting(SchedulerLease::getOwner)
+                .isEqualTo(nodeB.getNodeId());
+    }
+
+    @Test
+    void leaseIsRenewedWhileTheJobRuns() {
+        nodeA.runExclusively(JOB, Duration.ofSeconds(1), () -> {
+            LocalDateTime first = leaseRepository.findById(JOB).orElseThrow().getLeaseUntil();
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!leaseRepository.findById(JOB).orElseThrow().getLeaseUntil().isAfter(first)
+                    && System.nanoTime() < deadline) {
+                sleep(100);
+            }
+            assertThat(leaseRepository.findById(JOB).orElseThrow().getLeaseUntil()).isAfter(first);
+        });
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}